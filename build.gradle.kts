@@ -18,7 +18,7 @@ allprojects {
     apply(plugin = "maven-publish")
 
     group = "org.panda-lang.utilities"
-    version = "1.8.0"
+    version = "2.0.0"
 
     repositories {
         mavenCentral()
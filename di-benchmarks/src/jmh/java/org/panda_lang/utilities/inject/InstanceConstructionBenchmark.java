@@ -28,7 +28,7 @@ import org.openjdk.jmh.annotations.Warmup;
 @OutputTimeUnit(TimeUnit.MILLISECONDS)
 public class InstanceConstructionBenchmark {
 
-    private static class Entity {
+    public static class Entity {
 
         private final int id;
         private final String name;
@@ -42,7 +42,7 @@ public class InstanceConstructionBenchmark {
 
     }
 
-    private static class EntityData {
+    public static class EntityData {
 
         private final int coins;
         private final float health;
@@ -74,6 +74,11 @@ public class InstanceConstructionBenchmark {
         state.entityInjector.forConstructor(state.entityConstructor).newInstance();
     }
 
+    @Benchmark
+    public void generatedInjected(DIState state) throws Exception {
+        state.generatedEntityInjector.newInstance();
+    }
+
     @Benchmark
     public void injectedStatic(DIState state) {
         state.entityInjector.newInstance(state.entityConstructor);
@@ -89,6 +94,7 @@ public class InstanceConstructionBenchmark {
 
         private Constructor<Entity> entityConstructor;
         private Injector entityInjector;
+        private ConstructorInjector<Entity> generatedEntityInjector;
         private final Supplier<EntityData> entityDataSupplier = () -> new EntityData(123456789, 24.5243F);
 
         @Setup(Level.Trial)
@@ -99,6 +105,7 @@ public class InstanceConstructionBenchmark {
                 resources.on(String.class).assignInstance("PandaIsCool");
                 resources.on(EntityData.class).assignInstance(this.entityDataSupplier);
             });
+            this.generatedEntityInjector = this.entityInjector.forGeneratedConstructor(this.entityConstructor);
         }
 
     }
@@ -45,6 +45,7 @@ public class InvokeMethodBenchmark {
     public static class Entity {
         private int points;
         public Integer bump() { return ++points; }
+        public Integer bump(Integer value) { return points += value; }
     }
 
     @Benchmark
@@ -67,20 +68,44 @@ public class InvokeMethodBenchmark {
         return state.generatedInjectedMethod.invoke(state.entity);
     }
 
+    @Benchmark
+    public Integer injectedByInjector(DIState state) throws Throwable {
+        return state.injector.invokeMethod(state.method, state.entity);
+    }
+
+    @Benchmark
+    public Integer injectedWithBind(DIState state) throws Throwable {
+        return state.injectedMethodWithBind.invoke(state.entity);
+    }
+
+    @Benchmark
+    public Integer generatedInjectedWithBind(DIState state) throws Throwable {
+        return state.generatedInjectedMethodWithBind.invoke(state.entity);
+    }
+
     @State(Scope.Thread)
     public static class DIState {
 
         private Entity entity;
         private Method method;
+        private Injector injector;
         private MethodInjector injectedMethod;
         private MethodInjector generatedInjectedMethod;
+        private MethodInjector injectedMethodWithBind;
+        private MethodInjector generatedInjectedMethodWithBind;
 
         @Setup(Level.Trial)
         public void setup() throws Exception {
             this.entity = new Entity();
             this.method = ReflectionUtils.getMethod(Entity.class, "bump").get();
+            this.injector = DependencyInjection.createInjector();
             this.injectedMethod = DependencyInjection.createInjector().forMethod(method);
             this.generatedInjectedMethod = DependencyInjection.createInjector().forGeneratedMethod(method);
+
+            Method methodWithBind = ReflectionUtils.getMethod(Entity.class, "bump", Integer.class).get();
+            Injector injectorWithBind = DependencyInjection.createInjector(resources -> resources.on(Integer.class).assignInstance(1));
+            this.injectedMethodWithBind = injectorWithBind.forMethod(methodWithBind);
+            this.generatedInjectedMethodWithBind = injectorWithBind.forGeneratedMethod(methodWithBind);
         }
 
     }
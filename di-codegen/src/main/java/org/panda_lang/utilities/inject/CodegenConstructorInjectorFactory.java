@@ -0,0 +1,12 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Constructor;
+
+public class CodegenConstructorInjectorFactory implements ConstructorInjectorFactory {
+
+    @Override
+    public ConstructorInjector<?> createConstructorInjector(InjectorProcessor processor, Constructor<?> constructor) throws Exception {
+        return new GeneratedConstructorInjector<>(processor, constructor);
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+public class CodegenFieldsInjectorFactory implements FieldsInjectorFactory {
+
+    @Override
+    public FieldsInjector<?> createFieldsInjector(InjectorProcessor processor, ConstructorInjector<?> constructorInjector) throws Exception {
+        Constructor<?> constructor = constructorInjector.getConstructor();
+
+        if (!(constructorInjector instanceof GeneratedConstructorInjector) && CodegenUtils.isAccessible(constructor) && !Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            constructorInjector = new GeneratedConstructorInjector<>(processor, constructor);
+        }
+
+        return new GeneratedFieldsInjector<>(processor, constructorInjector);
+    }
+
+}
@@ -6,7 +6,12 @@ public class CodegenMethodInjectorFactory implements MethodInjectorFactory {
 
     @Override
     public MethodInjector createMethodInjector(InjectorProcessor processor, Method method) throws Exception {
-        return new GeneratedMethodInjector(processor, method);
+        return new GeneratedMethodInjector(processor, method, true);
+    }
+
+    @Override
+    public MethodInjector createDynamicMethodInjector(InjectorProcessor processor, Method method) throws Exception {
+        return new GeneratedMethodInjector(processor, method, false);
     }
 
 }
@@ -0,0 +1,103 @@
+package org.panda_lang.utilities.inject;
+
+import panda.std.Pair;
+import panda.utilities.ArrayUtils;
+import panda.utilities.ClassUtils;
+import panda.utilities.StringUtils;
+import panda.utilities.text.Joiner;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared utilities used to generate sources of injectors
+ */
+final class CodegenUtils {
+
+    private static final AtomicInteger ID = new AtomicInteger();
+
+    private CodegenUtils() { }
+
+    /**
+     * Generate unique name of class in the package of {@link Injector}
+     *
+     * @param type the type associated with the generated class
+     * @param name name of the generated member
+     * @return the unique name of class
+     */
+    static String generateName(Class<?> type, String name) {
+        return Injector.class.getPackage().getName() + ".PandaDI" + ID.incrementAndGet() + type.getSimpleName() + name;
+    }
+
+    /**
+     * Get name of type that can be used in generated sources
+     *
+     * @param type the type to process
+     * @return the name of type
+     */
+    static String getTypeName(Class<?> type) {
+        if (type.isArray()) {
+            Pair<Class<?>, Integer> baseClass = ArrayUtils.getBaseClassWithDimensions(type);
+            return baseClass.getFirst().getName() + StringUtils.repeated(baseClass.getSecond(), "[]");
+        }
+
+        return type.getName();
+    }
+
+    /**
+     * Append local variables <code>arg0..argN</code> unpacked (and unboxed) from the <code>array</code> variable
+     *
+     * @param body the body to append variables to
+     * @param parameterTypes types of parameters
+     */
+    static void appendArguments(StringBuilder body, Class<?>[] parameterTypes) {
+        for (int index = 0; index < parameterTypes.length; index++) {
+            Class<?> parameterType = parameterTypes[index];
+            body.append(getTypeName(parameterType)).append(" arg").append(index).append(" = ");
+            appendValue(body, parameterType, index);
+            body.append(";\n");
+        }
+    }
+
+    /**
+     * Append expression that unpacks (and unboxes) value of the given type from the <code>array</code> variable
+     *
+     * @param body the body to append expression to
+     * @param type the expected type of value
+     * @param index index of value in array
+     */
+    static void appendValue(StringBuilder body, Class<?> type, int index) {
+        String typeName = getTypeName(type);
+        body.append("((");
+
+        // Auto-boxing impl
+        if (type.isPrimitive()) {
+            Class<?> objectType = ClassUtils.getNonPrimitiveClass(type);
+            body.append(objectType.getName()).append(") array[").append(index).append("]).").append(typeName).append("Value()");
+        }
+        else {
+            body.append(typeName).append(") array[").append(index).append("])");
+        }
+    }
+
+    /**
+     * Check if the given member can be accessed by generated classes
+     *
+     * @param member the member to check
+     * @return true if member and its declaring class are public
+     */
+    static boolean isAccessible(Member member) {
+        return Modifier.isPublic(member.getModifiers()) && Modifier.isPublic(member.getDeclaringClass().getModifiers());
+    }
+
+    /**
+     * Join names of local variables created by {@link #appendArguments(StringBuilder, Class[])}
+     *
+     * @param parameterTypes types of parameters
+     * @return arguments separated by comma
+     */
+    static String joinArguments(Class<?>[] parameterTypes) {
+        return Joiner.on(", ").join(parameterTypes, (index, value) -> "arg" + index).toString();
+    }
+
+}
@@ -30,6 +30,11 @@ import java.util.Map;
 
 final class FunctionGenerator {
 
+    /**
+     * Javassist class pool is shared and not thread-safe, so classes are generated one at a time
+     */
+    private static final Object GENERATION_LOCK = new Object();
+
     private final String name;
     private final Class<?> anInterface;
     private final LinkedHashMap<String, CtClass> parameters;
@@ -61,12 +66,19 @@ final class FunctionGenerator {
             throw new IllegalArgumentException("The given class cannot be functional interface");
         }
 
+        synchronized (GENERATION_LOCK) {
+            return generate(domainClass, functionalMethod);
+        }
+    }
+
+    private Class<?> generate(Class<?> domainClass, Method functionalMethod) throws NotFoundException, CannotCompileException {
         CtClass ctClass = ClassPoolUtils.getClassPool().makeClass(name);
         ctClass.setModifiers(Modifier.PUBLIC);
         ctClass.addInterface(ClassPoolUtils.get(anInterface));
 
         for (Map.Entry<String, CtClass> entry : parameters.entrySet()) {
             CtField field = new CtField(entry.getValue(), entry.getKey(), ctClass);
+            field.setModifiers(Modifier.PRIVATE | Modifier.FINAL);
             ctClass.addField(field);
         }
 
@@ -0,0 +1,67 @@
+package org.panda_lang.utilities.inject;
+
+import panda.utilities.ObjectUtils;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+
+public final class GeneratedConstructorInjector<T> implements ConstructorInjector<T> {
+
+    private static final GeneratedFunctions<Constructor<?>, Function<Object[], Object>> FUNCTIONS = new GeneratedFunctions<>();
+
+    private final InjectorProcessor processor;
+    private final Constructor<T> constructor;
+    private final Function<Object[], Object> function;
+    private final InjectorCache cache;
+
+    GeneratedConstructorInjector(InjectorProcessor processor, Constructor<T> constructor) throws Exception {
+        this.processor = processor;
+        this.constructor = constructor;
+        this.function = FUNCTIONS.get(constructor.getDeclaringClass(), constructor, GeneratedConstructorInjector::generate);
+        this.cache = processor.getInjectorCache(constructor);
+    }
+
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        return ObjectUtils.cast(function.apply(processor.fetchValues(cache, injectorArgs)));
+    }
+
+    private static Function<Object[], Object> generate(Constructor<?> constructor) throws Exception {
+        if (!Modifier.isPublic(constructor.getModifiers())) {
+            throw new IllegalStateException(constructor + " has to be public");
+        }
+
+        Class<?> declaringClass = constructor.getDeclaringClass();
+
+        if (!Modifier.isPublic(declaringClass.getModifiers())) {
+            throw new IllegalStateException(declaringClass + " has to be public");
+        }
+
+        if (Modifier.isAbstract(declaringClass.getModifiers())) {
+            throw new IllegalStateException(declaringClass + " cannot be abstract");
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append(Object.class.getName()).append("[] array = (").append(Object.class.getName()).append("[]) $1;\n");
+
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        CodegenUtils.appendArguments(body, parameterTypes);
+
+        body.append("return new ").append(declaringClass.getName())
+                .append("(")
+                .append(CodegenUtils.joinArguments(parameterTypes))
+                .append(");");
+
+        String name = CodegenUtils.generateName(declaringClass, "Constructor");
+        Class<?> type = new FunctionGenerator(name, Function.class, new LinkedHashMap<>(), body.toString()).generate(Injector.class);
+
+        return ObjectUtils.cast(type.newInstance());
+    }
+
+    @Override
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+}
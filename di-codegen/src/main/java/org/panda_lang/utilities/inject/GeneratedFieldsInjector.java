@@ -0,0 +1,87 @@
+package org.panda_lang.utilities.inject;
+
+import org.jetbrains.annotations.Nullable;
+import panda.utilities.ObjectUtils;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+public final class GeneratedFieldsInjector<T> implements FieldsInjector<T> {
+
+    private static final GeneratedFunctions<Class<?>, BiConsumer<Object, Object[]>> WRITERS = new GeneratedFunctions<>();
+
+    private final InjectorProcessor processor;
+    private final ConstructorInjector<T> constructorInjector;
+    private final Field[] fields;
+    private final InjectorCache cache;
+    private final @Nullable BiConsumer<Object, Object[]> writer;
+    private final int[] reflectiveFields;
+
+    GeneratedFieldsInjector(InjectorProcessor processor, ConstructorInjector<T> constructorInjector) throws Exception {
+        this.processor = processor;
+        this.constructorInjector = constructorInjector;
+
+        Class<?> type = constructorInjector.getConstructor().getDeclaringClass();
+        this.fields = ClassCache.getInjectorFields(type);
+        this.cache = processor.getFieldsInjectorCache(type);
+
+        List<Integer> generatedFields = new ArrayList<>(fields.length);
+        List<Integer> reflectiveFields = new ArrayList<>(fields.length);
+
+        for (int index = 0; index < fields.length; index++) {
+            Field field = fields[index];
+
+            if (CodegenUtils.isAccessible(field) && !Modifier.isFinal(field.getModifiers())) {
+                generatedFields.add(index);
+            }
+            else {
+                reflectiveFields.add(index);
+            }
+        }
+
+        this.writer = generatedFields.isEmpty() ? null : WRITERS.get(type, type, key -> generate(key, fields, generatedFields));
+        this.reflectiveFields = reflectiveFields.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        T instance = constructorInjector.newInstance(injectorArgs);
+        Object[] values = processor.fetchValues(cache, injectorArgs);
+
+        if (writer != null) {
+            writer.accept(instance, values);
+        }
+
+        for (int index : reflectiveFields) {
+            fields[index].set(instance, values[index]);
+        }
+
+        return instance;
+    }
+
+    private static BiConsumer<Object, Object[]> generate(Class<?> type, Field[] fields, List<Integer> generatedFields) throws Exception {
+        StringBuilder body = new StringBuilder();
+        body.append(Object.class.getName()).append("[] array = (").append(Object.class.getName()).append("[]) $2;\n");
+
+        for (int index : generatedFields) {
+            Field field = fields[index];
+            body.append("((").append(field.getDeclaringClass().getName()).append(") $1).").append(field.getName()).append(" = ");
+            CodegenUtils.appendValue(body, field.getType(), index);
+            body.append(";\n");
+        }
+
+        String name = CodegenUtils.generateName(type, "Fields");
+        Class<?> writerType = new FunctionGenerator(name, BiConsumer.class, new LinkedHashMap<>(), body.toString()).generate(Injector.class);
+
+        return ObjectUtils.cast(writerType.newInstance());
+    }
+
+    @Override
+    public ConstructorInjector<T> getConstructorInjector() {
+        return constructorInjector;
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import panda.std.function.ThrowingFunction;
+
+/**
+ * Cache of generated functions that do not depend on resources, so they can be shared by all injectors.
+ * Functions are attached to the associated class through {@link ClassValue}, so they do not prevent the class from being unloaded.
+ *
+ * @param <K> type of key (e.g. constructor)
+ * @param <V> type of generated function
+ */
+final class GeneratedFunctions<K, V> {
+
+    private final ClassValue<Map<K, V>> functions = new ClassValue<Map<K, V>>() {
+        @Override
+        protected Map<K, V> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Get generated function or generate a new one.
+     * Every function is generated only once, as each generation defines a new class.
+     *
+     * @param type the class associated with the function
+     * @param key the key of function
+     * @param generator the generator of function
+     * @return the generated function
+     * @throws Exception if generation failed
+     */
+    V get(Class<?> type, K key, ThrowingFunction<K, V, Exception> generator) throws Exception {
+        Map<K, V> typeFunctions = functions.get(type);
+        V function = typeFunctions.get(key);
+
+        if (function != null) {
+            return function;
+        }
+
+        synchronized (typeFunctions) {
+            function = typeFunctions.get(key);
+
+            if (function == null) {
+                function = generator.apply(key);
+                typeFunctions.put(key, function);
+            }
+        }
+
+        return function;
+    }
+
+}
@@ -16,47 +16,102 @@
 
 package org.panda_lang.utilities.inject;
 
-import panda.std.Pair;
-import panda.utilities.ArrayUtils;
+import javassist.CtClass;
 import panda.utilities.ClassUtils;
 import panda.utilities.ObjectUtils;
-import panda.utilities.StringUtils;
-import panda.utilities.text.Joiner;
+import panda.utilities.javassist.ClassPoolUtils;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.List;
 import java.util.function.BiFunction;
 
 public final class GeneratedMethodInjector implements MethodInjector {
 
-    private static final Object[] EMPTY = new Object[0];
-
-    private static final AtomicInteger ID = new AtomicInteger();
+    private static final GeneratedFunctions<Method, BiFunction<Object, Object[], Object>> FUNCTIONS = new GeneratedFunctions<>();
 
     private final InjectorProcessor processor;
     private final Method method;
-    private final BiFunction<Object, Object[], Object> function;
     private final InjectorCache cache;
-    private final boolean empty;
+    private volatile Invocation invocation;
 
-    GeneratedMethodInjector(InjectorProcessor processor, Method method) throws Exception {
+    GeneratedMethodInjector(InjectorProcessor processor, Method method, boolean foldConstants) throws Exception {
         this.processor = processor;
         this.method = method;
-        this.function = generate(method);
-        this.cache = InjectorCache.of(processor, method);
-        this.empty = method.getParameterCount() == 0;
+        this.cache = processor.getInjectorCache(method);
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Object[] constants = new Object[parameterTypes.length];
+        boolean[] constant = new boolean[parameterTypes.length];
+        List<Integer> dynamicIndexes = new ArrayList<>();
+        List<DefaultBind<?>> foldedBinds = new ArrayList<>();
+        List<BindValue<?>> foldedValues = new ArrayList<>();
+
+        for (int index = 0; index < parameterTypes.length; index++) {
+            if (foldConstants && processor.isConstant(cache, index)) {
+                DefaultBind<Annotation> bind = (DefaultBind<Annotation>) cache.getBinds()[index];
+                BindValue<Annotation> bindValue = bind.getBindValue();
+                constants[index] = bindValue.getValue(cache.getProperties()[index], cache.getInjectable()[index], InjectorProcessor.EMPTY_ARGS);
+                constant[index] = constants[index] != null || !parameterTypes[index].isPrimitive();
+
+                if (constant[index]) {
+                    foldedBinds.add(bind);
+                    foldedValues.add(bindValue);
+                }
+            }
+
+            if (!constant[index]) {
+                dynamicIndexes.add(index);
+            }
+        }
+
+        this.invocation = foldedBinds.isEmpty()
+                ? unfoldedInvocation(method)
+                : new Invocation(
+                        generate(method, constant, constants),
+                        dynamicIndexes.stream().mapToInt(Integer::intValue).toArray(),
+                        foldedBinds.toArray(new DefaultBind<?>[0]),
+                        foldedValues.toArray(new BindValue<?>[0])
+                );
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T invoke(Object instance, Object... injectorArgs) throws Exception {
-        return (T) function.apply(instance, empty
-                ? EMPTY
-                : processor.fetchValues(cache, injectorArgs));
+        Invocation current = invocation;
+
+        // folded constants are outdated once any of folded binds is reassigned, so values are fetched on every call since then
+        if (current.isOutdated()) {
+            current = unfoldedInvocation(method);
+            invocation = current;
+        }
+
+        return (T) current.function.apply(instance, processor.fetchValues(cache, current.dynamicIndexes, injectorArgs));
+    }
+
+    private static Invocation unfoldedInvocation(Method method) throws Exception {
+        int[] dynamicIndexes = new int[method.getParameterCount()];
+
+        for (int index = 0; index < dynamicIndexes.length; index++) {
+            dynamicIndexes[index] = index;
+        }
+
+        // functions without folded constants depend only on the method, so they're generated once and shared
+        return new Invocation(FUNCTIONS.get(method.getDeclaringClass(), method, GeneratedMethodInjector::generate), dynamicIndexes, new DefaultBind<?>[0], new BindValue<?>[0]);
     }
 
     private static BiFunction<Object, Object[], Object> generate(Method method) throws Exception {
+        return generate(method, new boolean[method.getParameterCount()], new Object[method.getParameterCount()]);
+    }
+
+    /**
+     * Generate function that invokes the method.
+     * Values of constant parameters are stored in final fields of the generated class,
+     * the remaining values are read from the array of dynamic values.
+     */
+    private static BiFunction<Object, Object[], Object> generate(Method method, boolean[] constant, Object[] constants) throws Exception {
         if (!Modifier.isPublic(method.getModifiers())) {
             throw new IllegalStateException(method + " has to be public");
         }
@@ -72,26 +127,26 @@ public final class GeneratedMethodInjector implements MethodInjector {
         body.append(Object.class.getName()).append("[] array = (").append(Object.class.getName()).append("[]) $2;\n");
 
         Class<?>[] parameterTypes = method.getParameterTypes();
+        LinkedHashMap<String, CtClass> fields = new LinkedHashMap<>();
+        List<Class<?>> fieldTypes = new ArrayList<>();
+        List<Object> fieldValues = new ArrayList<>();
+        int dynamicIndex = 0;
 
         for (int index = 0; index < parameterTypes.length; index++) {
             Class<?> parameterType = parameterTypes[index];
-            String type = parameterType.getName();
+            body.append(CodegenUtils.getTypeName(parameterType)).append(" arg").append(index).append(" = ");
 
-            if (parameterType.isArray()) {
-                Pair<Class<?>, Integer> baseClass = ArrayUtils.getBaseClassWithDimensions(parameterType);
-                type = baseClass.getFirst().getName() + StringUtils.repeated(baseClass.getSecond(), "[]");
-            }
-
-            body.append(type).append(" arg").append(index).append(" = ((");
-
-            // Auto-boxing impl
-            if (parameterType.isPrimitive()) {
-                Class<?> objectType = ClassUtils.getNonPrimitiveClass(parameterType);
-                body.append(objectType.getName()).append(") array[").append(index).append("]).").append(type).append("Value();\n");
+            if (constant[index]) {
+                fields.put("constant" + index, ClassPoolUtils.get(parameterType));
+                fieldTypes.add(parameterType);
+                fieldValues.add(constants[index]);
+                body.append("this.constant").append(index);
             }
             else {
-                body.append(type).append(") array[").append(index).append("]);\n");
+                CodegenUtils.appendValue(body, parameterType, dynamicIndex++);
             }
+
+            body.append(";\n");
         }
 
         Class<?> returnType = method.getReturnType();
@@ -101,15 +156,15 @@ public final class GeneratedMethodInjector implements MethodInjector {
         if (!isVoid) {
             body.append("return ");
 
-            // Auto-boxing impl
+            // Auto-boxing impl, valueOf reuses cached instances and allows the JIT to eliminate boxing
             if (returnType.isPrimitive()) {
-                body.append("new ").append(objectType.getName()).append("(");
+                body.append(objectType.getName()).append(".valueOf(");
             }
         }
 
         body.append("instance.").append(method.getName())
                 .append("(")
-                .append(Joiner.on(", ").join(parameterTypes, (index, value) -> "arg" + index))
+                .append(CodegenUtils.joinArguments(parameterTypes))
                 .append(")");
 
         // Auto-boxing impl
@@ -119,10 +174,10 @@ public final class GeneratedMethodInjector implements MethodInjector {
 
         body.append(";");
 
-        String name = Injector.class.getPackage().getName() + ".PandaDI" + ID.incrementAndGet() + method.getDeclaringClass().getSimpleName() + method.getName();
-        Class<?> type = new FunctionGenerator(name, BiFunction.class, new LinkedHashMap<>(), body.toString()).generate(Injector.class);
+        String name = CodegenUtils.generateName(declaringClass, method.getName());
+        Class<?> type = new FunctionGenerator(name, BiFunction.class, fields, body.toString()).generate(Injector.class);
 
-        return ObjectUtils.cast(type.newInstance());
+        return ObjectUtils.cast(type.getConstructor(fieldTypes.toArray(new Class<?>[0])).newInstance(fieldValues.toArray()));
     }
 
     @Override
@@ -130,4 +185,33 @@ public final class GeneratedMethodInjector implements MethodInjector {
         return method;
     }
 
+    /**
+     * Generated function with indexes of parameters fetched on every call and values of binds folded into the function
+     */
+    private static final class Invocation {
+
+        private final BiFunction<Object, Object[], Object> function;
+        private final int[] dynamicIndexes;
+        private final DefaultBind<?>[] foldedBinds;
+        private final BindValue<?>[] foldedValues;
+
+        private Invocation(BiFunction<Object, Object[], Object> function, int[] dynamicIndexes, DefaultBind<?>[] foldedBinds, BindValue<?>[] foldedValues) {
+            this.function = function;
+            this.dynamicIndexes = dynamicIndexes;
+            this.foldedBinds = foldedBinds;
+            this.foldedValues = foldedValues;
+        }
+
+        private boolean isOutdated() {
+            for (int index = 0; index < foldedBinds.length; index++) {
+                if (foldedBinds[index].getBindValue() != foldedValues[index]) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+    }
+
 }
@@ -18,17 +18,23 @@ package org.panda_lang.utilities.inject;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.Inject;
 import org.panda_lang.utilities.inject.annotations.Injectable;
 import panda.utilities.ReflectionUtils;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SuppressWarnings("OptionGetWithoutIsPresent")
@@ -85,6 +91,201 @@ final class DependencyInjectionTest {
         assertTrue(limiterCalled.get());
     }
 
+    @Test
+    void testGeneratedConstructorInjector() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance(HELLO);
+            resources.on(int.class).assignInstance(DYNAMIC);
+        });
+
+        ConstructorInjector<GeneratedTestClass> constructorInjector = injector.forGeneratedConstructor(GeneratedTestClass.class);
+        assertTrue(constructorInjector instanceof GeneratedConstructorInjector);
+
+        GeneratedTestClass instance = constructorInjector.newInstance();
+        assertEquals(HELLO, instance.value);
+        assertEquals(DYNAMIC, instance.number);
+    }
+
+    @Test
+    void testGeneratedFieldsInjector() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance(HELLO);
+            resources.on(int.class).assignInstance(DYNAMIC);
+            resources.on(long.class).assignInstance((long) DYNAMIC);
+        });
+
+        FieldsInjector<GeneratedFieldsTestClass> fieldsInjector = injector.forGeneratedFields(GeneratedFieldsTestClass.class);
+        assertTrue(fieldsInjector instanceof GeneratedFieldsInjector);
+        assertTrue(fieldsInjector.getConstructorInjector() instanceof GeneratedConstructorInjector);
+
+        GeneratedFieldsTestClass instance = fieldsInjector.newInstance();
+        assertEquals(HELLO, instance.value);
+        assertEquals(DYNAMIC, instance.number);
+        assertEquals(DYNAMIC, instance.privateNumber);
+        assertEquals(HELLO, instance.parentValue);
+    }
+
+    @Test
+    void testGeneratedInjectorsShareGeneratedClasses() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance(HELLO);
+            resources.on(int.class).assignInstance(DYNAMIC);
+            resources.on(long.class).assignInstance((long) DYNAMIC);
+        });
+
+        FieldsInjector<GeneratedFieldsTestClass> fieldsInjector = injector.forGeneratedFields(GeneratedFieldsTestClass.class);
+        ConstructorInjector<GeneratedFieldsTestClass> constructorInjector = injector.forGeneratedConstructor(GeneratedFieldsTestClass.class);
+
+        injector.getResources().on(Object.class).assignInstance(new Object()); // invalidates cached injectors
+        Injector anotherInjector = DependencyInjection.createInjector(resources -> resources.on(String.class).assignInstance(HELLO));
+
+        assertSame(getGenerated(constructorInjector, "function"), getGenerated(fieldsInjector.getConstructorInjector(), "function"));
+        assertSame(getGenerated(constructorInjector, "function"), getGenerated(injector.forGeneratedConstructor(GeneratedFieldsTestClass.class), "function"));
+        assertSame(getGenerated(constructorInjector, "function"), getGenerated(anotherInjector.forGeneratedConstructor(GeneratedFieldsTestClass.class), "function"));
+        assertSame(getGenerated(fieldsInjector, "writer"), getGenerated(injector.forGeneratedFields(GeneratedFieldsTestClass.class), "writer"));
+        assertEquals(HELLO, injector.forGeneratedFields(GeneratedFieldsTestClass.class).newInstance().value);
+    }
+
+    private static Object getGenerated(Object injector, String fieldName) throws Exception {
+        Field field = injector.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(injector);
+    }
+
+    @Test
+    void testGeneratedMethodWithConstants() throws Exception {
+        AtomicInteger handled = new AtomicInteger();
+
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance(HELLO);
+            resources.on(int.class).assignHandler((property, annotation, injectorArgs) -> {
+                handled.incrementAndGet();
+                return DYNAMIC;
+            });
+        });
+
+        Method testForkedInjector = TestClass.class.getMethod("testForkedInjector", String.class, int.class);
+        MethodInjector methodInjector = injector.forGeneratedMethod(testForkedInjector);
+        TestClass instance = new TestClass(HELLO);
+
+        assertEquals(DYNAMIC, (Integer) methodInjector.invoke(instance));
+        assertEquals(DYNAMIC, (Integer) methodInjector.invoke(instance));
+        assertEquals(2, handled.get());
+
+        MethodInjector constantMethodInjector = injector.fork(resources -> resources.on(int.class).assignInstance(DYNAMIC)).forGeneratedMethod(testForkedInjector);
+        assertEquals(DYNAMIC, (Integer) constantMethodInjector.invoke(instance));
+        assertEquals(2, handled.get());
+    }
+
+    @Test
+    void testReassignedBindAfterGeneration() throws Exception {
+        Bind<?>[] bind = new Bind<?>[1];
+        Injector injector = DependencyInjection.createInjector(resources -> bind[0] = resources.on(int.class));
+        bind[0].assignInstance(DYNAMIC);
+
+        Method testReassignedBind = TestClass.class.getMethod("testReassignedBind", int.class);
+        TestClass instance = new TestClass(HELLO);
+
+        // exceed the threshold of hot methods, so the cached injector switches to the generated one
+        for (int invocation = 0; invocation < 20_000; invocation++) {
+            assertEquals(DYNAMIC, (Integer) injector.invokeMethod(testReassignedBind, instance));
+        }
+
+        bind[0].assignInstance(DYNAMIC + 1);
+        assertEquals(DYNAMIC + 1, (Integer) injector.invokeMethod(testReassignedBind, instance));
+    }
+
+    @Test
+    void testReassignedBindOfGeneratedMethod() throws Exception {
+        Bind<?>[] bind = new Bind<?>[1];
+        Injector injector = DependencyInjection.createInjector(resources -> bind[0] = resources.on(int.class));
+        bind[0].assignInstance(DYNAMIC);
+
+        MethodInjector methodInjector = injector.forGeneratedMethod(TestClass.class.getMethod("testReassignedBind", int.class));
+        TestClass instance = new TestClass(HELLO);
+        assertEquals(DYNAMIC, (Integer) methodInjector.invoke(instance));
+
+        bind[0].assignInstance(DYNAMIC + 1);
+        assertEquals(DYNAMIC + 1, (Integer) methodInjector.invoke(instance));
+
+        bind[0].assignInstance(DYNAMIC + 2);
+        assertEquals(DYNAMIC + 2, (Integer) methodInjector.invoke(instance));
+    }
+
+    @Test
+    void testDynamicMethodInjectorsShareGeneratedClasses() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance(HELLO);
+            resources.on(int.class).assignInstance(DYNAMIC);
+        });
+
+        Method testForkedInjector = TestClass.class.getMethod("testForkedInjector", String.class, int.class);
+        CodegenMethodInjectorFactory factory = new CodegenMethodInjectorFactory();
+        MethodInjector methodInjector = factory.createDynamicMethodInjector(new InjectorProcessor(injector), testForkedInjector);
+        MethodInjector forkedMethodInjector = factory.createDynamicMethodInjector(new InjectorProcessor(injector.fork(resources -> { })), testForkedInjector);
+
+        assertSame(getGenerated(getGenerated(methodInjector, "invocation"), "function"), getGenerated(getGenerated(forkedMethodInjector, "invocation"), "function"));
+        assertEquals(DYNAMIC, (Integer) forkedMethodInjector.invoke(new TestClass(HELLO)));
+    }
+
+    @Test
+    void testParallelGeneratedMethods() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance(HELLO);
+            resources.on(int.class).assignInstance(DYNAMIC);
+        });
+
+        Method testTypeInvoke = TestClass.class.getMethod("testTypeInvoke", String.class);
+        Method testForkedInjector = TestClass.class.getMethod("testForkedInjector", String.class, int.class);
+        Method[] methods = new Method[16];
+
+        for (int index = 0; index < methods.length; index++) {
+            methods[index] = index % 2 == 0 ? testTypeInvoke : testForkedInjector;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<MethodInjector> injectors = injector.forGeneratedMethods(pool, methods);
+        pool.shutdown();
+
+        TestClass instance = new TestClass(HELLO);
+        assertEquals(methods.length, injectors.size());
+
+        for (int index = 0; index < methods.length; index++) {
+            assertEquals(methods[index], injectors.get(index).getMethod());
+            assertEquals(index % 2 == 0 ? HELLO : DYNAMIC, (Object) injectors.get(index).invoke(instance));
+        }
+    }
+
+    public static class GeneratedFieldsParentTestClass {
+
+        @Inject
+        public String parentValue;
+
+    }
+
+    public static final class GeneratedFieldsTestClass extends GeneratedFieldsParentTestClass {
+
+        @Inject
+        public String value;
+        @Inject
+        public int number;
+        @Inject
+        private long privateNumber;
+
+    }
+
+    public static final class GeneratedTestClass {
+
+        private final String value;
+        private final int number;
+
+        public GeneratedTestClass(String value, int number) {
+            this.value = value;
+            this.number = number;
+        }
+
+    }
+
     public static final class TestClass {
 
         TestClass(String value) {
@@ -106,6 +307,10 @@ final class DependencyInjectionTest {
             return injectedOnInvoke;
         }
 
+        public int testReassignedBind(int value) {
+            return value;
+        }
+
     }
 
     @Injectable
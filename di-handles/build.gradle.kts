@@ -0,0 +1,5 @@
+description = "Dependency Injector|Method Handles"
+
+dependencies {
+    api(project(":di"))
+}
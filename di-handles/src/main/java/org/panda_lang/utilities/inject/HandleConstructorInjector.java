@@ -0,0 +1,37 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+
+public final class HandleConstructorInjector<T> implements ConstructorInjector<T> {
+
+    private final InjectorProcessor processor;
+    private final Constructor<T> constructor;
+    private final MethodHandle handle;
+    private final InjectorCache cache;
+
+    HandleConstructorInjector(InjectorProcessor processor, Constructor<T> constructor) throws Exception {
+        this.processor = processor;
+        this.constructor = constructor;
+        this.handle = HandleUtils.unreflect(constructor);
+        this.cache = processor.getInjectorCache(constructor);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        Object[] values = processor.fetchValues(cache, injectorArgs);
+
+        try {
+            return (T) (Object) handle.invokeExact(values);
+        } catch (Throwable throwable) {
+            throw HandleUtils.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+}
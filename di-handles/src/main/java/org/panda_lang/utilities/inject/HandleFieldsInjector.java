@@ -0,0 +1,46 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+
+public final class HandleFieldsInjector<T> implements FieldsInjector<T> {
+
+    private final InjectorProcessor processor;
+    private final ConstructorInjector<T> constructorInjector;
+    private final MethodHandle[] setters;
+    private final InjectorCache cache;
+
+    HandleFieldsInjector(InjectorProcessor processor, ConstructorInjector<T> constructorInjector) throws Exception {
+        this.processor = processor;
+        this.constructorInjector = constructorInjector;
+
+        Field[] fields = ClassCache.getInjectorFields(constructorInjector.getConstructor().getDeclaringClass());
+        this.setters = new MethodHandle[fields.length];
+        for (int index = 0; index < fields.length; index++) {
+            setters[index] = HandleUtils.unreflectSetter(fields[index]);
+        }
+        this.cache = processor.getFieldsInjectorCache(constructorInjector.getConstructor().getDeclaringClass());
+    }
+
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        T instance = constructorInjector.newInstance(injectorArgs);
+        Object[] values = processor.fetchValues(cache, injectorArgs);
+
+        try {
+            for (int index = 0; index < setters.length; index++) {
+                setters[index].invokeExact((Object) instance, values[index]);
+            }
+        } catch (Throwable throwable) {
+            throw HandleUtils.rethrow(throwable);
+        }
+
+        return instance;
+    }
+
+    @Override
+    public ConstructorInjector<T> getConstructorInjector() {
+        return constructorInjector;
+    }
+
+}
@@ -0,0 +1,37 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+public final class HandleMethodInjector implements MethodInjector {
+
+    private final InjectorProcessor processor;
+    private final Method method;
+    private final MethodHandle handle;
+    private final InjectorCache cache;
+
+    HandleMethodInjector(InjectorProcessor processor, Method method) throws Exception {
+        this.processor = processor;
+        this.method = method;
+        this.handle = HandleUtils.unreflect(method);
+        this.cache = processor.getInjectorCache(method);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T invoke(Object instance, Object... injectorArgs) throws Exception {
+        Object[] values = processor.fetchValues(cache, injectorArgs);
+
+        try {
+            return (T) (Object) handle.invokeExact(instance, values);
+        } catch (Throwable throwable) {
+            throw HandleUtils.rethrow(throwable);
+        }
+    }
+
+    @Override
+    public Method getMethod() {
+        return method;
+    }
+
+}
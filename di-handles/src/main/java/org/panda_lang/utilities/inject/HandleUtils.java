@@ -0,0 +1,90 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Utilities used to create method handles with generic signatures,
+ * so they can be invoked with {@link MethodHandle#invokeExact(Object...)}.
+ */
+final class HandleUtils {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private HandleUtils() { }
+
+    /**
+     * Create handle of type <code>(Object, Object[])Object</code> for the given method.
+     * Instance is ignored by static methods and void methods return null.
+     *
+     * @param method the method to unreflect
+     * @return the method handle
+     * @throws IllegalAccessException if method cannot be accessed
+     */
+    static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        method.setAccessible(true);
+        MethodHandle handle = LOOKUP.unreflect(method);
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        return handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    }
+
+    /**
+     * Create handle of type <code>(Object[])Object</code> for the given constructor
+     *
+     * @param constructor the constructor to unreflect
+     * @return the constructor handle
+     * @throws IllegalAccessException if constructor cannot be accessed
+     */
+    static MethodHandle unreflect(Constructor<?> constructor) throws IllegalAccessException {
+        constructor.setAccessible(true);
+
+        return LOOKUP.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, constructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
+    /**
+     * Create setter handle of type <code>(Object, Object)void</code> for the given field
+     *
+     * @param field the field to unreflect
+     * @return the setter handle
+     * @throws IllegalAccessException if field cannot be accessed
+     */
+    static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+
+        return LOOKUP.unreflectSetter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Rethrow throwable caught from method handle invocation as an exception
+     *
+     * @param throwable the caught throwable
+     * @return exception to throw
+     */
+    static Exception rethrow(Throwable throwable) {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+
+        if (throwable instanceof Exception) {
+            return (Exception) throwable;
+        }
+
+        return new UndeclaredThrowableException(throwable);
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Injector factory based on {@link java.lang.invoke.MethodHandle}s.
+ * In contrast to the <strong>di-codegen</strong> module, it does not generate any classes,
+ * so it supports non-public members and does not pay the cost of compiling sources at runtime.
+ */
+public class HandlesInjectorFactory implements MethodInjectorFactory, ConstructorInjectorFactory, FieldsInjectorFactory {
+
+    @Override
+    public MethodInjector createMethodInjector(InjectorProcessor processor, Method method) throws Exception {
+        return new HandleMethodInjector(processor, method);
+    }
+
+    @Override
+    public ConstructorInjector<?> createConstructorInjector(InjectorProcessor processor, Constructor<?> constructor) throws Exception {
+        return new HandleConstructorInjector<>(processor, constructor);
+    }
+
+    @Override
+    public FieldsInjector<?> createFieldsInjector(InjectorProcessor processor, ConstructorInjector<?> constructorInjector) throws Exception {
+        if (constructorInjector instanceof DefaultConstructorInjector) {
+            constructorInjector = new HandleConstructorInjector<>(processor, constructorInjector.getConstructor());
+        }
+
+        return new HandleFieldsInjector<>(processor, constructorInjector);
+    }
+
+}
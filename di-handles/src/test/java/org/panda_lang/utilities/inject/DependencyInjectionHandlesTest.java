@@ -0,0 +1,81 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DependencyInjectionHandlesTest {
+
+    private static final String HELLO = "Hello";
+    private static final int NUMBER = 7;
+
+    private final Injector injector = DependencyInjection.createInjector(resources -> {
+        resources.on(String.class).assignInstance(HELLO);
+        resources.on(int.class).assignInstance(NUMBER);
+    });
+
+    private static class Service {
+
+        private final String value;
+
+        @Inject
+        private int number;
+        private boolean called;
+
+        private Service(String value) {
+            this.value = value;
+        }
+
+        private int sum(int value) {
+            return number + value;
+        }
+
+        private void call() {
+            this.called = true;
+        }
+
+        private static String concat(String value, int number) {
+            return value + number;
+        }
+
+        private void fail() {
+            throw new IllegalStateException("Failed");
+        }
+
+    }
+
+    @Test
+    void shouldInvokePrivateMembers() throws Exception {
+        ConstructorInjector<Service> constructorInjector = injector.forGeneratedConstructor(Service.class);
+        assertTrue(constructorInjector instanceof HandleConstructorInjector);
+
+        FieldsInjector<Service> fieldsInjector = injector.forGeneratedFields(Service.class);
+        assertTrue(fieldsInjector instanceof HandleFieldsInjector);
+
+        Service service = fieldsInjector.newInstance();
+        assertEquals(HELLO, service.value);
+        assertEquals(NUMBER, service.number);
+
+        MethodInjector sumInjector = injector.forGeneratedMethod(Service.class.getDeclaredMethod("sum", int.class));
+        assertTrue(sumInjector instanceof HandleMethodInjector);
+        assertEquals(NUMBER * 2, (Integer) sumInjector.invoke(service));
+
+        assertNull(injector.forGeneratedMethod(Service.class.getDeclaredMethod("call")).invoke(service));
+        assertTrue(service.called);
+
+        assertEquals(HELLO + NUMBER, injector.forGeneratedMethod(Service.class.getDeclaredMethod("concat", String.class, int.class)).invoke(null));
+    }
+
+    @Test
+    void shouldPropagateExceptions() throws Exception {
+        Service service = injector.forGeneratedConstructor(Service.class).newInstance();
+        Method failMethod = Service.class.getDeclaredMethod("fail");
+        assertThrows(IllegalStateException.class, () -> injector.forGeneratedMethod(failMethod).invoke(service));
+    }
+
+}
@@ -0,0 +1,8 @@
+description = "Dependency Injector|Annotation Processor"
+
+dependencies {
+    implementation(project(":di"))
+
+    // Tests
+    testAnnotationProcessor(project(":di-processor"))
+}
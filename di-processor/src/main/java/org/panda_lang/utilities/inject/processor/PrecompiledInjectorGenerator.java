@@ -0,0 +1,322 @@
+package org.panda_lang.utilities.inject.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import org.panda_lang.utilities.inject.PrecompiledInjector;
+import org.panda_lang.utilities.inject.annotations.AutoConstruct;
+import org.panda_lang.utilities.inject.annotations.Inject;
+import org.panda_lang.utilities.inject.annotations.PostConstruct;
+
+/**
+ * Generates sources of {@link PrecompiledInjector} implementations.
+ * Only members accessible from the package of the processed class are supported,
+ * including types used in their signatures, the remaining ones are handled through reflection at runtime.
+ */
+final class PrecompiledInjectorGenerator {
+
+    private final Elements elements;
+    private final Types types;
+
+    PrecompiledInjectorGenerator(ProcessingEnvironment environment) {
+        this.elements = environment.getElementUtils();
+        this.types = environment.getTypeUtils();
+    }
+
+    /**
+     * Get qualified name of injector generated for the given type
+     *
+     * @param type the processed type
+     * @return the name of generated class
+     */
+    String getInjectorName(TypeElement type) {
+        return elements.getBinaryName(type) + PrecompiledInjector.CLASS_SUFFIX;
+    }
+
+    /**
+     * Generate source of injector for the given type
+     *
+     * @param type the type to process
+     * @return source of the generated class or null if the type is not accessible
+     */
+    String generate(TypeElement type) {
+        PackageElement packageElement = elements.getPackageOf(type);
+
+        if (!isAccessible(type, packageElement)) {
+            return null;
+        }
+
+        String typeName = getTypeName(type.asType());
+        String injectorName = getInjectorName(type);
+        String simpleName = injectorName.substring(injectorName.lastIndexOf('.') + 1);
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageElement.getQualifiedName()).append(";\n\n");
+        }
+
+        source.append("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+        source.append("public final class ").append(simpleName)
+                .append(" implements ").append(PrecompiledInjector.class.getCanonicalName()).append("<").append(typeName).append("> {\n\n");
+
+        appendConstructor(source, type, typeName, packageElement);
+        appendFields(source, type, typeName, packageElement);
+        appendMethods(source, type, typeName, packageElement);
+
+        return source.append("}\n").toString();
+    }
+
+    private void appendConstructor(StringBuilder source, TypeElement type, String typeName, PackageElement packageElement) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        boolean supported = constructors.size() == 1
+                && !type.getModifiers().contains(Modifier.ABSTRACT)
+                && (type.getNestingKind() == NestingKind.TOP_LEVEL || type.getModifiers().contains(Modifier.STATIC))
+                && isAccessible(constructors.get(0), packageElement)
+                && isSignatureAccessible(constructors.get(0), packageElement);
+
+        List<? extends VariableElement> parameters = supported ? constructors.get(0).getParameters() : null;
+
+        source.append("    @Override\n");
+        source.append("    public Class<?>[] getParameterTypes() {\n");
+        source.append("        return ").append(parameters == null ? "null" : classArray(parameters)).append(";\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public ").append(typeName).append(" newInstance(Object[] arguments) throws Exception {\n");
+
+        if (parameters == null) {
+            source.append("        throw new UnsupportedOperationException();\n");
+        }
+        else {
+            source.append("        return new ").append(typeName).append("(").append(arguments(parameters)).append(");\n");
+        }
+
+        source.append("    }\n\n");
+    }
+
+    private void appendFields(StringBuilder source, TypeElement type, String typeName, PackageElement packageElement) {
+        List<VariableElement> fields = new ArrayList<>();
+        boolean supported = true;
+
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getAnnotation(Inject.class) == null && field.getAnnotation(AutoConstruct.class) == null) {
+                    continue;
+                }
+
+                if (!isAccessible(field, packageElement) || !isAccessible(field.asType(), packageElement) || field.getModifiers().contains(Modifier.FINAL)) {
+                    supported = false;
+                }
+
+                fields.add(field);
+            }
+        }
+
+        StringBuilder owners = new StringBuilder();
+        StringBuilder names = new StringBuilder();
+        StringBuilder assignments = new StringBuilder();
+
+        for (int index = 0; index < fields.size(); index++) {
+            VariableElement field = fields.get(index);
+            String ownerName = getTypeName(field.getEnclosingElement().asType());
+
+            owners.append(index == 0 ? "" : ", ").append(ownerName).append(".class");
+            names.append(index == 0 ? "" : ", ").append("\"").append(field.getSimpleName()).append("\"");
+
+            assignments.append("        ");
+
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                assignments.append(ownerName);
+            }
+            else {
+                assignments.append("((").append(ownerName).append(") instance)");
+            }
+
+            assignments.append(".").append(field.getSimpleName()).append(" = ").append(value(field.asType(), index, "values")).append(";\n");
+        }
+
+        source.append("    @Override\n");
+        source.append("    public Class<?>[] getFieldOwners() {\n");
+        source.append("        return ").append(supported ? "new Class<?>[] { " + owners + " }" : "null").append(";\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public String[] getFieldNames() {\n");
+        source.append("        return ").append(supported ? "new String[] { " + names + " }" : "null").append(";\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public void injectFields(").append(typeName).append(" instance, Object[] values) throws Exception {\n");
+        source.append(supported ? assignments.toString() : "        throw new UnsupportedOperationException();\n");
+        source.append("    }\n\n");
+    }
+
+    private void appendMethods(StringBuilder source, TypeElement type, String typeName, PackageElement packageElement) {
+        List<ExecutableElement> methods = new ArrayList<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getAnnotation(PostConstruct.class) == null && method.getAnnotation(Inject.class) == null) {
+                continue;
+            }
+
+            if (isAccessible(method, packageElement) && isSignatureAccessible(method, packageElement) && !method.getModifiers().contains(Modifier.ABSTRACT)) {
+                methods.add(method);
+            }
+        }
+
+        StringBuilder names = new StringBuilder();
+        StringBuilder parameterTypes = new StringBuilder();
+        StringBuilder invocations = new StringBuilder();
+
+        for (int index = 0; index < methods.size(); index++) {
+            ExecutableElement method = methods.get(index);
+            String separator = index == 0 ? "" : ", ";
+
+            names.append(separator).append("\"").append(method.getSimpleName()).append("\"");
+            parameterTypes.append(separator).append(classArray(method.getParameters()));
+
+            String target = method.getModifiers().contains(Modifier.STATIC) ? typeName : "instance";
+            String invocation = target + "." + method.getSimpleName() + "(" + arguments(method.getParameters()) + ")";
+
+            invocations.append("            case ").append(index).append(":\n");
+
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                invocations.append("                ").append(invocation).append(";\n");
+                invocations.append("                return null;\n");
+            }
+            else {
+                invocations.append("                return ").append(invocation).append(";\n");
+            }
+        }
+
+        source.append("    @Override\n");
+        source.append("    public String[] getMethodNames() {\n");
+        source.append("        return new String[] { ").append(names).append(" };\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Class<?>[][] getMethodParameterTypes() {\n");
+        source.append("        return new Class<?>[][] { ").append(parameterTypes).append(" };\n");
+        source.append("    }\n\n");
+
+        source.append("    @Override\n");
+        source.append("    public Object invokeMethod(int index, ").append(typeName).append(" instance, Object[] arguments) throws Exception {\n");
+        source.append("        switch (index) {\n");
+        source.append(invocations);
+        source.append("            default:\n");
+        source.append("                throw new IllegalArgumentException(\"Unknown method \" + index);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+    }
+
+    private String classArray(List<? extends VariableElement> parameters) {
+        StringBuilder array = new StringBuilder("new Class<?>[] { ");
+
+        for (int index = 0; index < parameters.size(); index++) {
+            array.append(index == 0 ? "" : ", ").append(getTypeName(parameters.get(index).asType())).append(".class");
+        }
+
+        return array.append(" }").toString();
+    }
+
+    private String arguments(List<? extends VariableElement> parameters) {
+        StringBuilder arguments = new StringBuilder();
+
+        for (int index = 0; index < parameters.size(); index++) {
+            arguments.append(index == 0 ? "" : ", ").append(value(parameters.get(index).asType(), index, "arguments"));
+        }
+
+        return arguments.toString();
+    }
+
+    private String value(TypeMirror type, int index, String array) {
+        String castType = type.getKind().isPrimitive()
+                ? types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString()
+                : getTypeName(type);
+
+        return "(" + castType + ") " + array + "[" + index + "]";
+    }
+
+    private String getTypeName(TypeMirror type) {
+        return types.erasure(type).toString();
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+        return superElement.getQualifiedName().contentEquals(Object.class.getName()) ? null : superElement;
+    }
+
+    private boolean isSignatureAccessible(ExecutableElement executable, PackageElement packageElement) {
+        if (!isAccessible(executable.getReturnType(), packageElement)) {
+            return false;
+        }
+
+        for (VariableElement parameter : executable.getParameters()) {
+            if (!isAccessible(parameter.asType(), packageElement)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if the erasure of the given type can be referenced by the source generated in the given package
+     */
+    private boolean isAccessible(TypeMirror type, PackageElement packageElement) {
+        TypeMirror erasure = types.erasure(type);
+
+        while (erasure.getKind() == TypeKind.ARRAY) {
+            erasure = ((ArrayType) erasure).getComponentType();
+        }
+
+        if (erasure.getKind().isPrimitive() || erasure.getKind() == TypeKind.VOID) {
+            return true;
+        }
+
+        return erasure.getKind() == TypeKind.DECLARED && isAccessible(((DeclaredType) erasure).asElement(), packageElement);
+    }
+
+    private boolean isAccessible(Element element, PackageElement packageElement) {
+        for (Element current = element; current != null && !(current instanceof PackageElement); current = current.getEnclosingElement()) {
+            Set<Modifier> modifiers = current.getModifiers();
+
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (!modifiers.contains(Modifier.PUBLIC) && !elements.getPackageOf(current).equals(packageElement)) {
+                return false;
+            }
+
+            if (current instanceof TypeElement && ((TypeElement) current).getNestingKind() == NestingKind.LOCAL) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
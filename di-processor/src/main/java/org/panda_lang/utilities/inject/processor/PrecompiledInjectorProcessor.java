@@ -0,0 +1,92 @@
+package org.panda_lang.utilities.inject.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+import org.panda_lang.utilities.inject.annotations.AutoConstruct;
+import org.panda_lang.utilities.inject.annotations.Inject;
+import org.panda_lang.utilities.inject.annotations.PostConstruct;
+
+/**
+ * Annotation processor that generates {@link org.panda_lang.utilities.inject.PrecompiledInjector} for every class
+ * with members annotated with {@link Inject}, {@link AutoConstruct} or {@link PostConstruct}.
+ * Classes without such members can be marked with {@link Inject} to generate injector for their constructor.
+ */
+public final class PrecompiledInjectorProcessor extends AbstractProcessor {
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(
+                Inject.class.getCanonicalName(),
+                AutoConstruct.class.getCanonicalName(),
+                PostConstruct.class.getCanonicalName()
+        ));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = getEnclosingClass(element);
+
+                if (type != null) {
+                    types.add(type);
+                }
+            }
+        }
+
+        PrecompiledInjectorGenerator generator = new PrecompiledInjectorGenerator(processingEnv);
+
+        for (TypeElement type : types) {
+            String source = generator.generate(type);
+
+            if (source == null) {
+                processingEnv.getMessager().printMessage(Kind.NOTE, "Cannot precompile injector for inaccessible class, reflection will be used", type);
+                continue;
+            }
+
+            String name = generator.getInjectorName(type);
+
+            try {
+                JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+
+                try (Writer writer = file.openWriter()) {
+                    writer.write(source);
+                }
+            } catch (IOException exception) {
+                processingEnv.getMessager().printMessage(Kind.ERROR, "Cannot write precompiled injector " + name + ": " + exception.getMessage(), type);
+            }
+        }
+
+        return false;
+    }
+
+    private static TypeElement getEnclosingClass(Element element) {
+        while (element != null && !element.getKind().isClass() && !element.getKind().isInterface()) {
+            element = element.getEnclosingElement();
+        }
+
+        return element != null && element.getKind() == ElementKind.CLASS
+                ? (TypeElement) element
+                : null;
+    }
+
+}
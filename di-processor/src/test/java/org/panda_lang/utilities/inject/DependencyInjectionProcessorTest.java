@@ -0,0 +1,141 @@
+package org.panda_lang.utilities.inject;
+
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.Inject;
+import org.panda_lang.utilities.inject.annotations.PostConstruct;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DependencyInjectionProcessorTest {
+
+    private static final String HELLO = "Hello";
+    private static final int NUMBER = 7;
+
+    private final Injector injector = DependencyInjection.createInjector(resources -> {
+        resources.on(String.class).assignInstance(HELLO);
+        resources.on(int.class).assignInstance(NUMBER);
+    });
+
+    static class Parent {
+
+        @Inject
+        String parentValue;
+
+    }
+
+    static class Service extends Parent {
+
+        final String value;
+
+        @Inject
+        int number;
+        boolean constructed;
+
+        Service(String value) {
+            this.value = value;
+        }
+
+        @PostConstruct
+        void construct() {
+            this.constructed = true;
+        }
+
+        @Inject
+        int sum(int value) {
+            return number + value;
+        }
+
+    }
+
+    static class PrivateService {
+
+        @Inject
+        private String value;
+
+    }
+
+    static class ThrowingService {
+
+        @Inject
+        String value;
+
+        ThrowingService(int number) throws IOException {
+            if (number != NUMBER) {
+                throw new IOException("Unexpected number " + number);
+            }
+        }
+
+    }
+
+    private static class Secret { }
+
+    static class SecretService {
+
+        @Inject
+        Secret secret;
+
+        SecretService(Secret secret) { }
+
+        @Inject
+        Secret secret(Secret secret) {
+            return secret;
+        }
+
+    }
+
+    @Test
+    void shouldPrecompileThrowingConstructors() throws Exception {
+        assertTrue(injector.forConstructor(ThrowingService.class) instanceof PrecompiledConstructorInjector);
+        assertEquals(HELLO, injector.forFields(ThrowingService.class).newInstance().value);
+
+        Injector invalidInjector = DependencyInjection.createInjector(resources -> resources.on(int.class).assignInstance(0));
+        assertThrows(IOException.class, () -> invalidInjector.forConstructor(ThrowingService.class).newInstance());
+    }
+
+    @Test
+    void shouldUsePrecompiledInjectors() throws Exception {
+        assertTrue(injector.forConstructor(Service.class) instanceof PrecompiledConstructorInjector);
+
+        FieldsInjector<Service> fieldsInjector = injector.forFields(Service.class);
+        assertTrue(fieldsInjector instanceof PrecompiledFieldsInjector);
+
+        Service service = fieldsInjector.newInstance();
+        assertEquals(HELLO, service.value);
+        assertEquals(HELLO, service.parentValue);
+        assertEquals(NUMBER, service.number);
+
+        MethodInjector sumInjector = injector.forMethod(Service.class.getDeclaredMethod("sum", int.class));
+        assertTrue(sumInjector instanceof PrecompiledMethodInjector);
+        assertEquals(NUMBER * 2, (Integer) sumInjector.invoke(service));
+
+        assertTrue(injector.newInstanceWithFields(Service.class).constructed);
+    }
+
+    @Test
+    void shouldFallbackToReflectionForInaccessibleMembers() throws Exception {
+        assertTrue(injector.forConstructor(PrivateService.class) instanceof PrecompiledConstructorInjector);
+        assertTrue(injector.forFields(PrivateService.class) instanceof DefaultFieldsInjector);
+        assertEquals(HELLO, injector.forFields(PrivateService.class).newInstance().value);
+    }
+
+    @Test
+    void shouldFallbackToReflectionForInaccessibleSignatures() throws Exception {
+        Secret secret = new Secret();
+        Injector secretInjector = DependencyInjection.createInjector(resources -> resources.on(Secret.class).assignInstance(secret));
+
+        assertTrue(secretInjector.forConstructor(SecretService.class) instanceof DefaultConstructorInjector);
+        assertTrue(secretInjector.forFields(SecretService.class) instanceof DefaultFieldsInjector);
+
+        MethodInjector methodInjector = secretInjector.forMethod(SecretService.class.getDeclaredMethod("secret", Secret.class));
+        assertTrue(methodInjector instanceof DefaultMethodInjector);
+
+        SecretService service = secretInjector.forFields(SecretService.class).newInstance();
+        assertSame(secret, service.secret);
+        assertSame(secret, methodInjector.invoke(service));
+    }
+
+}
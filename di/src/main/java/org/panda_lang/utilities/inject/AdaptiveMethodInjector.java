@@ -0,0 +1,53 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Method;
+import panda.std.function.ThrowingSupplier;
+
+/**
+ * Method injector that switches to the generated implementation once the method becomes hot
+ */
+final class AdaptiveMethodInjector implements MethodInjector {
+
+    private final ThrowingSupplier<MethodInjector, Exception> generator;
+    private final int threshold;
+    private volatile MethodInjector methodInjector;
+    private volatile boolean generated;
+    private int invocations; // approximate, lost updates only delay the generation
+
+    AdaptiveMethodInjector(MethodInjector methodInjector, ThrowingSupplier<MethodInjector, Exception> generator, int threshold) {
+        this.methodInjector = methodInjector;
+        this.generator = generator;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public <T> T invoke(Object instance, Object... injectorArgs) throws Exception {
+        MethodInjector current = methodInjector;
+
+        if (!generated && ++invocations >= threshold) {
+            current = generate();
+        }
+
+        return current.invoke(instance, injectorArgs);
+    }
+
+    private synchronized MethodInjector generate() {
+        if (!generated) {
+            try {
+                methodInjector = generator.get();
+            } catch (Exception ignored) {
+                // generated backends support only some methods (e.g. public ones), keep using the current injector
+            }
+
+            generated = true;
+        }
+
+        return methodInjector;
+    }
+
+    @Override
+    public Method getMethod() {
+        return methodInjector.getMethod();
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.panda_lang.utilities.inject;
 
 import org.jetbrains.annotations.NotNull;
+import panda.std.function.ThrowingFunction;
 import panda.std.function.ThrowingSupplier;
 import panda.std.function.ThrowingTriFunction;
 import panda.std.function.TriFunction;
@@ -53,6 +54,18 @@ public interface Bind<A extends Annotation> extends Comparable<Bind<A>> {
      */
     void assignLazyInstance(Supplier<?> valueSupplier);
 
+    /**
+     * Assign instance to the bind, that will be created once per the given scope
+     *
+     * @param scope the scope of instances
+     * @param valueSupplier the supplier of new instances
+     * @see Scopes
+     */
+    default void assignScopedInstance(Scope scope, ThrowingSupplier<?, ? extends Exception> valueSupplier) {
+        ThrowingFunction<Object[], ?, ? extends Exception> scopedSupplier = scope.scope(valueSupplier);
+        assignThrowingHandler((property, annotation, injectorArgs) -> scopedSupplier.apply(injectorArgs));
+    }
+
     /**
      * Assign custom handler to the bind
      *
@@ -1,6 +1,8 @@
 package org.panda_lang.utilities.inject;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
@@ -8,20 +10,71 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.panda_lang.utilities.inject.annotations.AutoConstruct;
 import org.panda_lang.utilities.inject.annotations.Inject;
-import panda.std.Pair;
+import panda.std.Option;
+import panda.utilities.ObjectUtils;
 
 /**
  * Utility class for caching class data (fields, methods, etc.) to improve performance.
+ * Data is attached to classes through {@link ClassValue}, so cached metadata
+ * does not prevent classes and their class loaders from being unloaded.
  */
 final class ClassCache {
 
-    private static final Map<Class<?>, Field[]> CACHED_FIELDS = new ConcurrentHashMap<>();
-    private static final Map<Class<?>, Field[]> INJECTOR_CACHED_FIELDS = new ConcurrentHashMap<>();
-
-    private static final Map<Pair<Class<?>, Class<? extends Annotation>>, Method[]> CACHED_ANNOTATED_METHODS = new ConcurrentHashMap<>();
+    private static final ClassValue<ClassMetadata> CACHED_METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
 
     private ClassCache() { }
 
+    /**
+     * Check if the class is loaded by a class loader isolated from the library (e.g. a plugin class loader),
+     * so it may be unloaded while injectors are still in use.
+     * Classes of the bootstrap loader, the loader of this library and its ancestors are shared.
+     * The result is cached.
+     * @param clazz class to check
+     * @return true if the class is isolated from the library
+     */
+    public static boolean isIsolated(Class<?> clazz) {
+        return CACHED_METADATA.get(clazz).isolated;
+    }
+
+    private static boolean isLoadedByIsolatedLoader(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+
+        if (loader == null) {
+            return false;
+        }
+
+        for (ClassLoader sharedLoader = ClassCache.class.getClassLoader(); sharedLoader != null; sharedLoader = sharedLoader.getParent()) {
+            if (sharedLoader == loader) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Get all declared constructors of the class.
+     * The result is cached.
+     * @param clazz class to get constructors from
+     * @return array of constructors
+     */
+    public static Constructor<?>[] getConstructors(Class<?> clazz) {
+        ClassMetadata metadata = CACHED_METADATA.get(clazz);
+        Constructor<?>[] constructors = metadata.constructors;
+
+        if (constructors == null) {
+            constructors = clazz.getDeclaredConstructors();
+            metadata.constructors = constructors;
+        }
+
+        return constructors;
+    }
+
     /**
      * Get all fields of the class.
      * The result is cached.
@@ -29,7 +82,15 @@ final class ClassCache {
      * @return array of fields
      */
     public static Field[] getFields(Class<?> clazz) {
-        return CACHED_FIELDS.computeIfAbsent(clazz, ClassCache::getAllFields);
+        ClassMetadata metadata = CACHED_METADATA.get(clazz);
+        Field[] fields = metadata.fields;
+
+        if (fields == null) {
+            fields = getAllFields(clazz);
+            metadata.fields = fields;
+        }
+
+        return fields;
     }
 
     /**
@@ -39,13 +100,18 @@ final class ClassCache {
      * @return array of fields
      */
     public static Field[] getInjectorFields(Class<?> clazz) {
-        return INJECTOR_CACHED_FIELDS.computeIfAbsent(
-                clazz,
-                key -> Arrays.stream(getFields(clazz))
-                        .filter(field -> field.isAnnotationPresent(Inject.class) || field.isAnnotationPresent(AutoConstruct.class))
-                        .peek(field -> field.setAccessible(true))
-                        .toArray(Field[]::new)
-        );
+        ClassMetadata metadata = CACHED_METADATA.get(clazz);
+        Field[] injectorFields = metadata.injectorFields;
+
+        if (injectorFields == null) {
+            injectorFields = Arrays.stream(getFields(clazz))
+                    .filter(field -> field.isAnnotationPresent(Inject.class) || field.isAnnotationPresent(AutoConstruct.class))
+                    .peek(field -> field.setAccessible(true))
+                    .toArray(Field[]::new);
+            metadata.injectorFields = injectorFields;
+        }
+
+        return injectorFields;
     }
 
     private static Field[] getAllFields(Class<?> type) {
@@ -59,18 +125,52 @@ final class ClassCache {
 
     /**
      * Get all methods of the class that are annotated with the specified annotation.
-     * The result is cached.
+     * The result is cached in metadata of the class, or of the annotation if the class can't see it
+     * (e.g. shared class and annotation of a plugin), so the cache never keeps classes of other class loaders.
      * @param clazz class to get methods from
      * @param annotation annotation to filter methods by
      * @return array of methods
      */
     public static Method[] getAnnotatedMethods(Class<?> clazz, Class<? extends Annotation> annotation) {
-        return CACHED_ANNOTATED_METHODS.computeIfAbsent(
-                Pair.of(clazz, annotation),
-                key -> Arrays.stream(getAllMethods(clazz))
-                        .filter(method -> method.isAnnotationPresent(annotation))
-                        .toArray(Method[]::new)
-        );
+        Map<Class<?>, Method[]> annotatedMethods;
+        Class<?> key;
+
+        if (isVisible(annotation, clazz.getClassLoader())) {
+            annotatedMethods = CACHED_METADATA.get(clazz).annotatedMethods;
+            key = annotation;
+        }
+        else if (isVisible(clazz, annotation.getClassLoader())) {
+            annotatedMethods = CACHED_METADATA.get(annotation).annotatedMethods;
+            key = clazz;
+        }
+        else {
+            return findAnnotatedMethods(clazz, annotation);
+        }
+
+        Method[] methods = annotatedMethods.get(key);
+        return methods != null ? methods : annotatedMethods.computeIfAbsent(key, ignored -> findAnnotatedMethods(clazz, annotation));
+    }
+
+    private static Method[] findAnnotatedMethods(Class<?> type, Class<? extends Annotation> annotation) {
+        return Arrays.stream(getAllMethods(type))
+                .filter(method -> method.isAnnotationPresent(annotation))
+                .toArray(Method[]::new);
+    }
+
+    private static boolean isVisible(Class<?> type, ClassLoader loader) {
+        ClassLoader typeLoader = type.getClassLoader();
+
+        if (typeLoader == null) {
+            return true;
+        }
+
+        for (ClassLoader current = loader; current != null; current = current.getParent()) {
+            if (current == typeLoader) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     private static Method[] getAllMethods(Class<?> type) {
@@ -82,10 +182,72 @@ final class ClassCache {
         return methods;
     }
 
+    /**
+     * Get metadata of parameters declared by the executable.
+     * The result is cached.
+     * @param executable executable to get metadata of
+     * @return metadata of the executable
+     */
+    public static ExecutableMetadata getExecutableMetadata(Executable executable) {
+        Map<Executable, ExecutableMetadata> executables = CACHED_METADATA.get(executable.getDeclaringClass()).executables;
+        ExecutableMetadata metadata = executables.get(executable);
+        return metadata != null ? metadata : executables.computeIfAbsent(executable, ExecutableMetadata::new);
+    }
+
+    /**
+     * Get injector generated for the class at compile time by the <strong>di-processor</strong> module.
+     * The result is cached.
+     * @param clazz class to get precompiled injector for
+     * @return precompiled injector if present
+     */
+    public static Option<PrecompiledInjector<Object>> getPrecompiledInjector(Class<?> clazz) {
+        ClassMetadata metadata = CACHED_METADATA.get(clazz);
+        Option<PrecompiledInjector<Object>> precompiledInjector = metadata.precompiledInjector;
+
+        if (precompiledInjector == null) {
+            precompiledInjector = loadPrecompiledInjector(clazz);
+            metadata.precompiledInjector = precompiledInjector;
+        }
+
+        return precompiledInjector;
+    }
+
+    private static Option<PrecompiledInjector<Object>> loadPrecompiledInjector(Class<?> type) {
+        try {
+            Class<?> injectorType = Class.forName(type.getName() + PrecompiledInjector.CLASS_SUFFIX, true, type.getClassLoader());
+            return Option.of(ObjectUtils.cast(injectorType.getConstructor().newInstance()));
+        } catch (ClassNotFoundException notFound) {
+            return Option.none();
+        } catch (ReflectiveOperationException exception) {
+            throw new DependencyInjectionException("Cannot initialize precompiled injector of " + type, exception);
+        }
+    }
+
     private static <T> T[] mergeArrays(T[] first, T[] second) {
         T[] result = Arrays.copyOf(first, first.length + second.length);
         System.arraycopy(second, 0, result, first.length, second.length);
         return result;
     }
 
+    /**
+     * Metadata attached to a single class.
+     * Lazily computed values may be resolved more than once by concurrent callers, but all results are equivalent.
+     */
+    private static final class ClassMetadata {
+
+        private final boolean isolated;
+        private volatile Constructor<?>[] constructors;
+        private volatile Field[] fields;
+        private volatile Field[] injectorFields;
+        private volatile Option<PrecompiledInjector<Object>> precompiledInjector;
+        // keyed by annotations for classes and by annotated classes for annotations
+        private final Map<Class<?>, Method[]> annotatedMethods = new ConcurrentHashMap<>();
+        private final Map<Executable, ExecutableMetadata> executables = new ConcurrentHashMap<>();
+
+        private ClassMetadata(Class<?> type) {
+            this.isolated = isLoadedByIsolatedLoader(type);
+        }
+
+    }
+
 }
@@ -1,43 +1,34 @@
-/*
- * Copyright (c) 2020 Dzikoysk
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
 package org.panda_lang.utilities.inject;
 
-import panda.utilities.ObjectUtils;
 import java.lang.reflect.Constructor;
 
-public final class ConstructorInjector<T> {
-
-    private final InjectorProcessor processor;
-    private final Constructor<?> constructor;
-    private final InjectorCache cache;
-
-    ConstructorInjector(InjectorProcessor processor, Constructor<T> constructor) {
-        this.processor = processor;
-        this.constructor = constructor;
-        constructor.setAccessible(true);
-        this.cache = InjectorCache.of(processor, constructor);
+public interface ConstructorInjector<T> {
+
+    /**
+     * Create a new instance using the associated constructor
+     *
+     * @param injectorArgs arguments for injector
+     * @return a new instance
+     * @throws Exception if anything happens in the evaluated constructor
+     */
+    T newInstance(Object... injectorArgs) throws Exception;
+
+    /**
+     * Create a new instance without injector arguments.
+     * Unlike the varargs call, it does not allocate an empty array of arguments.
+     *
+     * @return a new instance
+     * @throws Exception if anything happens in the evaluated constructor
+     */
+    default T newInstance() throws Exception {
+        return newInstance(InjectorProcessor.EMPTY_ARGS);
     }
 
-    public T newInstance(Object... injectorArgs) throws Exception {
-        return ObjectUtils.cast(constructor.newInstance(processor.fetchValues(cache, injectorArgs)));
-    }
-
-    public Constructor<?> getConstructor() {
-        return constructor;
-    }
+    /**
+     * Get the associated constructor
+     *
+     * @return the constructor
+     */
+    Constructor<T> getConstructor();
 
 }
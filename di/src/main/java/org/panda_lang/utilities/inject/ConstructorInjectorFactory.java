@@ -0,0 +1,9 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Constructor;
+
+public interface ConstructorInjectorFactory {
+
+    ConstructorInjector<?> createConstructorInjector(InjectorProcessor processor, Constructor<?> constructor) throws Exception;
+
+}
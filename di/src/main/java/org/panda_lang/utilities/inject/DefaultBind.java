@@ -28,7 +28,8 @@ class DefaultBind<A extends Annotation> implements Bind<A> {
 
     private final Class<?> associatedType;
     private final Class<?> dataType;
-    private BindValue<A> value;
+    // binds are published to concurrent lookups by resources before any value is assigned
+    private volatile BindValue<A> value;
 
     DefaultBind(Class<?> associatedType) {
         this(associatedType, associatedType);
@@ -67,6 +68,11 @@ class DefaultBind<A extends Annotation> implements Bind<A> {
         assignInstance(new Lazy<>(valueSupplier));
     }
 
+    @Override
+    public void assignScopedInstance(Scope scope, ThrowingSupplier<?, ? extends Exception> valueSupplier) {
+        with(new ScopedBindValue<>(scope.scope(valueSupplier)));
+    }
+
     @Override
     public void assignHandler(TriFunction<Property, A, Object[], ?> handler) {
         with(new HandledBindValue<>(handler));
@@ -77,9 +83,34 @@ class DefaultBind<A extends Annotation> implements Bind<A> {
         with(new HandledBindValue<>(handler));
     }
 
+    /**
+     * Check if the bind is assigned to a fixed instance
+     *
+     * @return true if the value of bind is always the same
+     */
+    boolean isConstant() {
+        BindValue<A> value = this.value;
+        return value instanceof StaticBindValue && ((StaticBindValue<?>) value).isConstant();
+    }
+
+    /**
+     * Get the assigned value, every assignment replaces it with a new instance
+     *
+     * @return the assigned value or null if no value was assigned yet
+     */
+    BindValue<A> getBindValue() {
+        return value;
+    }
+
     @Override
     public Object getValue(Property required, A annotation, Object... injectedArgs) throws Exception {
-        return this.value.getValue(required, annotation, injectedArgs);
+        BindValue<A> value = this.value;
+
+        if (value == null) {
+            throw new MissingBindException("Bind of " + associatedType.getSimpleName() + " has no assigned value");
+        }
+
+        return value.getValue(required, annotation, injectedArgs);
     }
 
     @Override
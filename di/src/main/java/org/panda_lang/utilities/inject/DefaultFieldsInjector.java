@@ -0,0 +1,34 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Field;
+
+public final class DefaultFieldsInjector<T> implements FieldsInjector<T> {
+
+    private final InjectorProcessor processor;
+    private final ConstructorInjector<T> constructorInjector;
+    private final Field[] fields;
+    private final InjectorCache cache;
+
+    DefaultFieldsInjector(InjectorProcessor processor, ConstructorInjector<T> constructorInjector) {
+        this.processor = processor;
+        this.constructorInjector = constructorInjector;
+        this.fields = ClassCache.getInjectorFields(constructorInjector.getConstructor().getDeclaringClass());
+        this.cache = processor.getFieldsInjectorCache(constructorInjector.getConstructor().getDeclaringClass());
+    }
+
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        T instance = this.constructorInjector.newInstance(injectorArgs);
+        Object[] values = this.processor.fetchValues(this.cache, injectorArgs);
+        for (int index = 0; index < fields.length; index++) {
+            fields[index].set(instance, values[index]);
+        }
+        return instance;
+    }
+
+    @Override
+    public ConstructorInjector<T> getConstructorInjector() {
+        return constructorInjector;
+    }
+
+}
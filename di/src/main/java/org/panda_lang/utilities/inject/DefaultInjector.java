@@ -20,56 +20,139 @@ import java.lang.annotation.Annotation;
 import org.jetbrains.annotations.Nullable;
 import org.panda_lang.utilities.inject.annotations.PostConstruct;
 import panda.std.Lazy;
+import panda.std.Option;
+import panda.std.Pair;
 import panda.utilities.ObjectUtils;
+import panda.utilities.text.Joiner;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.security.InvalidParameterException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.StreamSupport;
 
 import static java.util.Spliterator.ORDERED;
 
 final class DefaultInjector implements Injector {
 
+    private static final int MAXIMUM_METHOD_INJECTORS = 4096;
+    private static final int HOT_METHOD_THRESHOLD = 10_000;
+
     private final Resources resources;
     private final InjectorProcessor processor;
+    private final VersionedCache<Constructor<?>, ConstructorInjector<?>> constructorInjectors;
+    private final VersionedCache<Constructor<?>, FieldsInjector<?>> fieldsInjectors;
+    private final VersionedCache<Constructor<?>, ConstructorInjector<?>> generatedConstructorInjectors;
+    private final VersionedCache<Constructor<?>, FieldsInjector<?>> generatedFieldsInjectors;
+    private final VersionedCache<Pair<Class<?>, Class<? extends Annotation>>, MethodInjector[]> annotatedMethodInjectors;
+    private final VersionedCache<Method, MethodInjector> methodInjectors;
 
     private final Lazy<MethodInjectorFactory> methodInjectorFactory = new Lazy<>(() ->
-            StreamSupport.stream(Spliterators.spliteratorUnknownSize(ServiceLoader.load(MethodInjectorFactory.class).iterator(), ORDERED), false)
-                    .findAny()
-                    .orElseGet(() -> ((processor, method) -> forMethod(method)))
+            loadFactory(MethodInjectorFactory.class).orElseGet(() -> ((processor, method) -> forMethod(method)))
+    );
+
+    private final Lazy<ConstructorInjectorFactory> constructorInjectorFactory = new Lazy<>(() ->
+            loadFactory(ConstructorInjectorFactory.class).orElseGet(() -> ((processor, constructor) -> forConstructor(constructor)))
+    );
+
+    private final Lazy<FieldsInjectorFactory> fieldsInjectorFactory = new Lazy<>(() ->
+            loadFactory(FieldsInjectorFactory.class).orElseGet(() -> ((processor, constructorInjector) -> forFields(constructorInjector.getConstructor())))
     );
 
     public DefaultInjector(Resources resources) {
         this.resources = resources;
         this.processor = new InjectorProcessor(this);
+        this.constructorInjectors = new VersionedCache<>(resources, Constructor::getDeclaringClass);
+        this.fieldsInjectors = new VersionedCache<>(resources, Constructor::getDeclaringClass);
+        this.generatedConstructorInjectors = new VersionedCache<>(resources, Constructor::getDeclaringClass);
+        this.generatedFieldsInjectors = new VersionedCache<>(resources, Constructor::getDeclaringClass);
+        // shared types can be annotated only with shared annotations, so the annotation decides only for shared types
+        this.annotatedMethodInjectors = new VersionedCache<>(resources, key -> ClassCache.isIsolated(key.getFirst()) ? key.getFirst() : key.getSecond());
+        this.methodInjectors = new VersionedCache<>(resources, MAXIMUM_METHOD_INJECTORS, Method::getDeclaringClass);
+    }
+
+    private static <F> Optional<F> loadFactory(Class<F> factoryType) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(ServiceLoader.load(factoryType).iterator(), ORDERED), false)
+                .findAny();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> ConstructorInjector<T> forConstructor(Class<T> type) {
-        Constructor<?>[] constructors = type.getDeclaredConstructors();
-        if (constructors.length != 1) {
-            throw new InvalidParameterException("Class has to contain one and only constructor");
-        }
-        return new ConstructorInjector<>(this.processor, (Constructor<T>) constructors[0]);
+        return forConstructor(getConstructor(type));
     }
 
     @Override
     public <T> ConstructorInjector<T> forConstructor(Constructor<T> constructor) {
-        return new ConstructorInjector<>(this.processor, constructor);
+        return ObjectUtils.cast(constructorInjectors.get(constructor, this::createConstructorInjector));
+    }
+
+    private ConstructorInjector<?> createConstructorInjector(Constructor<?> constructor) {
+        return ClassCache.getPrecompiledInjector(constructor.getDeclaringClass())
+                .filter(precompiled -> Arrays.equals(precompiled.getParameterTypes(), constructor.getParameterTypes()))
+                .<ConstructorInjector<?>> map(precompiled -> new PrecompiledConstructorInjector<>(processor, constructor, ObjectUtils.cast(precompiled)))
+                .orElseGet(() -> new DefaultConstructorInjector<>(processor, constructor));
     }
 
     @Override
     public <T> FieldsInjector<T> forFields(Class<T> type) {
-        return new FieldsInjector<>(processor, forConstructor(type));
+        return forFields(getConstructor(type));
     }
 
     @Override
     public <T> FieldsInjector<T> forFields(Constructor<T> constructor) {
-        return new FieldsInjector<>(processor, forConstructor(constructor));
+        return ObjectUtils.cast(fieldsInjectors.get(constructor, this::createFieldsInjector));
+    }
+
+    private FieldsInjector<?> createFieldsInjector(Constructor<?> constructor) {
+        ConstructorInjector<?> constructorInjector = forConstructor(constructor);
+        Class<?> type = constructor.getDeclaringClass();
+
+        // unsupported or outdated precompiled injectors fall back to reflection
+        return ClassCache.getPrecompiledInjector(type)
+                .flatMap(precompiled -> Option.of(PrecompiledFieldsInjector.matchFields(type, precompiled))
+                        .<FieldsInjector<?>> map(order -> new PrecompiledFieldsInjector<>(processor, constructorInjector, ObjectUtils.cast(precompiled), order)))
+                .orElseGet(() -> new DefaultFieldsInjector<>(processor, constructorInjector));
+    }
+
+    @Override
+    public <T> ConstructorInjector<T> forGeneratedConstructor(Class<T> type) throws Exception {
+        return forGeneratedConstructor(getConstructor(type));
+    }
+
+    @Override
+    public <T> ConstructorInjector<T> forGeneratedConstructor(Constructor<T> constructor) throws Exception {
+        return ObjectUtils.cast(generatedConstructorInjectors.get(constructor, key -> constructorInjectorFactory.get().createConstructorInjector(processor, key)));
+    }
+
+    @Override
+    public <T> FieldsInjector<T> forGeneratedFields(Class<T> type) throws Exception {
+        return forGeneratedFields(getConstructor(type));
+    }
+
+    @Override
+    public <T> FieldsInjector<T> forGeneratedFields(Constructor<T> constructor) throws Exception {
+        return ObjectUtils.cast(generatedFieldsInjectors.get(constructor, key -> fieldsInjectorFactory.get().createFieldsInjector(processor, forConstructor(key))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Constructor<T> getConstructor(Class<T> type) {
+        Constructor<?>[] constructors = ClassCache.getConstructors(type);
+        if (constructors.length != 1) {
+            throw new InvalidParameterException("Class has to contain one and only constructor");
+        }
+        return (Constructor<T>) constructors[0];
     }
 
     @Override
@@ -118,6 +201,19 @@ final class DefaultInjector implements Injector {
 
     @Override
     public MethodInjector forMethod(Method method) {
+        Option<PrecompiledInjector<Object>> precompiledInjector = ClassCache.getPrecompiledInjector(method.getDeclaringClass());
+
+        if (precompiledInjector.isPresent()) {
+            String[] names = precompiledInjector.get().getMethodNames();
+            Class<?>[][] parameterTypes = precompiledInjector.get().getMethodParameterTypes();
+
+            for (int index = 0; index < names.length; index++) {
+                if (names[index].equals(method.getName()) && Arrays.equals(parameterTypes[index], method.getParameterTypes())) {
+                    return new PrecompiledMethodInjector(processor, method, precompiledInjector.get(), index);
+                }
+            }
+        }
+
         return new DefaultMethodInjector(processor, method);
     }
 
@@ -126,20 +222,95 @@ final class DefaultInjector implements Injector {
         return methodInjectorFactory.get().createMethodInjector(processor, method);
     }
 
+    @Override
+    public List<MethodInjector> forGeneratedMethods(ForkJoinPool pool, Method... methods) throws DependencyInjectionException {
+        List<ForkJoinTask<MethodInjector>> tasks = new ArrayList<>(methods.length);
+
+        for (Method method : methods) {
+            tasks.add(pool.submit(() -> forGeneratedMethod(method)));
+        }
+
+        return joinTasks(tasks, "Cannot generate method injectors");
+    }
+
+    private static <T> List<T> joinTasks(List<ForkJoinTask<T>> tasks, String message) throws DependencyInjectionException {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        for (ForkJoinTask<T> task : tasks) {
+            try {
+                results.add(task.get());
+            } catch (ExecutionException exception) {
+                if (exception.getCause() instanceof DependencyInjectionException) {
+                    throw (DependencyInjectionException) exception.getCause();
+                }
+
+                throw new DependencyInjectionException(message, exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new DependencyInjectionException(message, exception);
+            }
+        }
+
+        return results;
+    }
+
     @Override
     public <T> T invokeMethod(Method method, Object instance, Object... injectorArgs) throws DependencyInjectionException {
         try {
-            return this.forMethod(method).invoke(instance, injectorArgs);
+            return getMethodInjector(method).invoke(instance, injectorArgs);
         } catch (Exception exception) {
             throw new DependencyInjectionException("Cannot invoke method " + method.getName() + " of " + instance.getClass().getSimpleName(), exception);
         }
     }
 
+    /**
+     * Get cached injector used by {@link #invokeMethod(Method, Object, Object...)},
+     * it switches to the generated backend once the method becomes hot.
+     */
+    private MethodInjector getMethodInjector(Method method) {
+        return methodInjectors.get(method, key -> new AdaptiveMethodInjector(
+                forMethod(key),
+                // cached injectors outlive reassignments of binds, so constants can't be folded
+                () -> methodInjectorFactory.get().createDynamicMethodInjector(processor, key),
+                HOT_METHOD_THRESHOLD
+        ));
+    }
+
     @Override
     public void invokeAnnotatedMethods(Class<? extends Annotation> annotation, Object instance, Object... injectorArgs) throws DependencyInjectionException {
-        for (Method method : ClassCache.getAnnotatedMethods(instance.getClass(), annotation)) {
-            this.invokeMethod(method, instance, injectorArgs);
+        Class<?> type = instance.getClass();
+        Method[] methods = ClassCache.getAnnotatedMethods(type, annotation);
+        MethodInjector[] methodInjectors = getAnnotatedMethodInjectors(type, annotation);
+
+        for (int index = 0; index < methods.length; index++) {
+            try {
+                getAnnotatedMethodInjector(methods, methodInjectors, index).invoke(instance, injectorArgs);
+            } catch (Exception exception) {
+                throw new DependencyInjectionException("Cannot invoke method " + methods[index].getName() + " of " + type.getSimpleName(), exception);
+            }
+        }
+    }
+
+    /**
+     * Get cached injectors of methods annotated with the given annotation,
+     * so the lifecycle of every new instance does not build injectors again.
+     * Injectors are created on first use by {@link #getAnnotatedMethodInjector(Method[], MethodInjector[], int)},
+     * so failures are reported with the associated method.
+     */
+    private MethodInjector[] getAnnotatedMethodInjectors(Class<?> type, Class<? extends Annotation> annotation) {
+        return annotatedMethodInjectors.get(Pair.of(type, annotation), key -> new MethodInjector[ClassCache.getAnnotatedMethods(key.getFirst(), key.getSecond()).length]);
+    }
+
+    private MethodInjector getAnnotatedMethodInjector(Method[] methods, MethodInjector[] methodInjectors, int index) {
+        MethodInjector methodInjector = methodInjectors[index];
+
+        // racy initialization is safe, injectors are immutable and equivalent
+        if (methodInjector == null) {
+            methodInjector = forMethod(methods[index]);
+            methodInjectors[index] = methodInjector;
         }
+
+        return methodInjector;
     }
 
     @Override
@@ -147,6 +318,76 @@ final class DefaultInjector implements Injector {
         return ObjectUtils.cast(processor.fetchValue(new PropertyParameter(parameter), injectorArgs));
     }
 
+    @Override
+    public void prepare(Class<?>... types) throws DependencyInjectionException {
+        for (Class<?> type : types) {
+            prepare(type);
+        }
+    }
+
+    @Override
+    public void prepare(ForkJoinPool pool, Class<?>... types) throws DependencyInjectionException {
+        List<ForkJoinTask<Class<?>>> tasks = new ArrayList<>(types.length);
+
+        for (Class<?> type : types) {
+            tasks.add(pool.submit(() -> prepare(type), type));
+        }
+
+        joinTasks(tasks, "Cannot prepare types");
+    }
+
+    private void prepare(Class<?> type) throws DependencyInjectionException {
+        try {
+            prepare(type, new HashSet<>(), new ArrayDeque<>());
+        } catch (DependencyInjectionException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new DependencyInjectionException("Cannot prepare " + type.getSimpleName(), exception);
+        }
+    }
+
+    private void prepare(Class<?> type, Set<Class<?>> prepared, Deque<Class<?>> path) {
+        if (path.contains(type)) {
+            String cycle = Joiner.on(" -> ").join(path, Class::getSimpleName).toString();
+            throw new DependencyInjectionException("Circular @AutoConstruct dependency: " + cycle + " -> " + type.getSimpleName());
+        }
+
+        if (!prepared.add(type)) {
+            return;
+        }
+
+        path.addLast(type);
+        Constructor<?> constructor = getConstructor(type);
+        forFields(constructor);
+
+        Method[] postConstructMethods = ClassCache.getAnnotatedMethods(type, PostConstruct.class);
+        MethodInjector[] postConstructInjectors = getAnnotatedMethodInjectors(type, PostConstruct.class);
+
+        for (int index = 0; index < postConstructMethods.length; index++) {
+            getAnnotatedMethodInjector(postConstructMethods, postConstructInjectors, index);
+        }
+
+        prepareDependencies(processor.getInjectorCache(constructor), prepared, path);
+        prepareDependencies(processor.getFieldsInjectorCache(type), prepared, path);
+        path.removeLast();
+    }
+
+    private void prepareDependencies(InjectorCache cache, Set<Class<?>> prepared, Deque<Class<?>> path) {
+        Property[] properties = cache.getProperties();
+        Bind<Annotation>[] binds = cache.getBinds();
+
+        for (int index = 0; index < binds.length; index++) {
+            if (binds[index] == processor.getAutoConstructBind()) {
+                prepare(properties[index].getType(), prepared, path);
+            }
+            else if (binds[index] == processor.getProviderBind()) {
+                // provided values are resolved lazily, so they may legally refer back to the current path
+                PropertyProvided provided = PropertyProvided.of(properties[index]);
+                prepareDependencies(InjectorCache.of(processor, provided), prepared, new ArrayDeque<>());
+            }
+        }
+    }
+
     @Override
     public Injector fork(InjectorController controller) {
         return DependencyInjection.INJECTOR_FACTORY.createInjector(controller, resources.fork());
@@ -29,7 +29,7 @@ public final class DefaultMethodInjector implements MethodInjector {
         this.processor = processor;
         this.method = method;
         method.setAccessible(true);
-        this.cache = InjectorCache.of(processor, method);
+        this.cache = processor.getInjectorCache(method);
     }
 
     /**
@@ -20,46 +20,68 @@ import org.jetbrains.annotations.Nullable;
 import panda.std.Option;
 import panda.std.function.ThrowingQuadFunction;
 import panda.std.function.ThrowingTriFunction;
-import panda.utilities.ArrayUtils;
 import panda.utilities.ClassUtils;
 import panda.utilities.ObjectUtils;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
+/**
+ * Thread-safe implementation of {@link Resources}.
+ * Binds and handlers are stored in copy-on-write snapshots, so lookups never lock,
+ * while registrations are synchronized and replace the current snapshot.
+ * Registrations are pushed down to forks, so lookups never have to check versions of parent resources.
+ */
 final class DefaultResources implements Resources {
 
     @SuppressWarnings("OptionUsedAsFieldOrParameterType")
     private final Option<Resources> parent;
-    private final Map<Class<?>, Bind<Annotation>> binds;
-    private final Map<HandlerRecord, BindHandler<Annotation, Object, ?>> handlers;
-    private final Map<Executable, Annotation[][]> cachedAnnotations;
-
-    DefaultResources(
-        @Nullable Resources parent,
-        Map<Class<?>, Bind<Annotation>> resources,
-        Map<HandlerRecord, BindHandler<Annotation, Object, ?>> handlers,
-        Map<Executable, Annotation[][]> cachedAnnotations
-    ) {
+    private final AtomicReference<BindsSnapshot> bindsSnapshot;
+    private volatile HandlerIndex handlers;
+    private volatile long version;
+    private final Set<DefaultResources> forks = Collections.newSetFromMap(new WeakHashMap<>());
+
+    DefaultResources(@Nullable Resources parent) {
         this.parent = Option.of(parent);
-        this.binds = new HashMap<>(resources);
-        this.handlers = new HashMap<>(handlers);
-        this.cachedAnnotations = new HashMap<>(cachedAnnotations);
+        this.bindsSnapshot = new AtomicReference<>(new BindsSnapshot(new HashMap<>()));
+        this.handlers = new HandlerIndex();
+    }
+
+    /**
+     * Create resources without parent that share the given binds and handlers.
+     * Both are never modified in place, so the instances may be shared until one of the resources registers something new.
+     */
+    DefaultResources(Map<Class<?>, Bind<Annotation>> binds, HandlerIndex handlers) {
+        this.parent = Option.none();
+        this.bindsSnapshot = new AtomicReference<>(new BindsSnapshot(binds));
+        this.handlers = handlers;
+    }
+
+    private DefaultResources(BindsSnapshot bindsSnapshot, HandlerIndex handlers) {
+        this.parent = Option.none();
+        this.bindsSnapshot = new AtomicReference<>(bindsSnapshot);
+        this.handlers = handlers;
     }
 
     DefaultResources() {
-        this(null, new HashMap<>(), new HashMap<>(), new HashMap<>());
+        this(null);
     }
 
-    private <A extends Annotation> Bind<A> with(Bind<A> bind) {
-        binds.put(bind.getAssociatedType(), ObjectUtils.cast(bind));
+    private synchronized <A extends Annotation> Bind<A> with(Bind<A> bind) {
+        Map<Class<?>, Bind<Annotation>> updatedBinds = new HashMap<>(bindsSnapshot.get().binds);
+        updatedBinds.put(bind.getAssociatedType(), ObjectUtils.cast(bind));
+        bindsSnapshot.set(new BindsSnapshot(updatedBinds));
+        changed();
         return bind;
     }
 
@@ -88,57 +110,78 @@ final class DefaultResources implements Resources {
         with(new HandlerRecord(type, annotationType), new DefaultBindHandler<>(annotationType, processor));
     }
 
-    private <A extends Annotation, V, R, E extends Exception> void with(HandlerRecord record, DefaultBindHandler<A, V, R, E> handler) {
-        handlers.put(record, ObjectUtils.cast(handler));
+    private synchronized <A extends Annotation, V, R, E extends Exception> void with(HandlerRecord record, DefaultBindHandler<A, V, R, E> handler) {
+        this.handlers = handlers.with(record, ObjectUtils.cast(handler));
+        changed();
+    }
+
+    /**
+     * Bump version of these resources and all of their forks.
+     * Forks also drop bind resolutions memoized on top of the previous state of parent resources.
+     */
+    private synchronized void changed() {
+        version++;
+
+        for (DefaultResources fork : forks) {
+            fork.parentChanged();
+        }
+    }
+
+    private synchronized void parentChanged() {
+        bindsSnapshot.set(new BindsSnapshot(bindsSnapshot.get().binds));
+        changed();
     }
 
     @Override
     public Annotation[] fetchAnnotations(Parameter parameter) {
-        Annotation[][] parameterAnnotations = fetchAnnotations(parameter.getDeclaringExecutable());
-        int index = ArrayUtils.indexOf(parameter.getDeclaringExecutable().getParameters(), parameter);
-        return parameterAnnotations[index];
+        return ExecutableMetadata.of(parameter.getDeclaringExecutable()).getAnnotations(parameter);
     }
 
     @Override
     public Annotation[][] fetchAnnotations(Executable executable) {
-        Annotation[][] parameterAnnotations = cachedAnnotations.get(executable);
-
-        if (parameterAnnotations == null) {
-            parameterAnnotations = executable.getParameterAnnotations();
-            cachedAnnotations.put(executable, parameterAnnotations);
-        }
-
-        return parameterAnnotations;
+        return ExecutableMetadata.of(executable).getAnnotations();
     }
 
     @Override
     public Collection<BindHandler<Annotation, Object, ?>> getHandler(Parameter parameter) {
-        Executable executable = parameter.getDeclaringExecutable();
-        Annotation[] annotations = fetchAnnotations(parameter);
+        return handlers.getHandlers(parameter);
+    }
 
-        Collection<BindHandler<Annotation, Object, ?>> matched = new ArrayList<>(executable.getParameterCount());
-        add(matched, new HandlerRecord(parameter.getType(), null));
+    @Override
+    public Option<Bind<Annotation>> getBind(Class<?> requestedType) {
+        BindsSnapshot snapshot = bindsSnapshot.get();
+        Bind<Annotation> exactBind = snapshot.binds.get(requestedType);
 
-        for (Annotation annotation : annotations) {
-            add(matched, new HandlerRecord(parameter.getType(), null));
-            add(matched, new HandlerRecord(parameter.getType(), annotation.annotationType()));
-            add(matched, new HandlerRecord(null, annotation.annotationType()));
+        if (exactBind != null) {
+            return Option.of(exactBind);
         }
 
-        return matched;
-    }
+        Option<Bind<Annotation>> resolvedBind = snapshot.resolvedBinds.get(requestedType);
 
-    private void add(Collection<BindHandler<Annotation, Object, ?>> matched, HandlerRecord record) {
-        BindHandler<Annotation, Object, ?> handler = handlers.get(record);
+        if (resolvedBind == null) {
+            resolvedBind = resolveBind(snapshot.binds, requestedType);
 
-        if (handler != null) {
-            matched.add(handler);
+            if (resolvedBind.isEmpty()) {
+                resolvedBind = parent.flatMap(parent -> parent.getBind(requestedType));
+            }
+
+            snapshot.resolvedBinds.put(requestedType, resolvedBind);
         }
+
+        return resolvedBind;
     }
 
-    @Override
+    /**
+     * Resolve bind of the requested type using binds registered at this level.
+     * The result, or the bind found in parent resources, is memoized by {@link #getBind(Class)}
+     * until a new bind is registered at this level or in any of parent resources.
+     *
+     * @param binds binds registered at the given level
+     * @param requestedType the associated class with bind to search for
+     * @return the wrapped bind
+     */
     @SuppressWarnings({ "unchecked", "rawtypes" })
-    public Option<Bind<Annotation>> getBind(Class<?> requestedType) {
+    static Option<Bind<Annotation>> resolveBind(Map<Class<?>, Bind<Annotation>> binds, Class<?> requestedType) {
         Option<Bind<Annotation>> mostRelated = ClassUtils.selectMostRelated(binds.keySet(), requestedType).map(binds::get);
 
         if (mostRelated.isPresent()) {
@@ -154,25 +197,57 @@ final class DefaultResources implements Resources {
             return Option.of(associated.get(0));
         }
 
-        return parent.flatMap(parent -> parent.getBind(requestedType));
+        return Option.none();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Resources freeze() {
+        return new FrozenResources(parent.map(Resources::freeze).orNull(), bindsSnapshot.get().binds, handlers, getVersion());
     }
 
     @Override
-    public Resources fork() {
-        return new DefaultResources(this, new HashMap<>(), new HashMap<>(), new HashMap<>());
+    public synchronized Resources fork() {
+        DefaultResources fork = new DefaultResources(this);
+        forks.add(fork);
+        return fork;
     }
 
     @Override
     public Resources duplicate() {
-        return new DefaultResources(null, binds, handlers, cachedAnnotations);
+        BindsSnapshot snapshot = bindsSnapshot.get();
+
+        // memoized resolutions are shared as well, unless some of them come from the parent resources
+        return parent.isEmpty()
+                ? new DefaultResources(snapshot, handlers)
+                : new DefaultResources(snapshot.binds, handlers);
+    }
+
+    /**
+     * Binds registered at this level with resolutions memoized on top of them.
+     * The map of binds is never modified after creation, so it may be shared between snapshots and duplicated resources.
+     */
+    private static final class BindsSnapshot {
+
+        private final Map<Class<?>, Bind<Annotation>> binds;
+        private final ResolvedBinds resolvedBinds = new ResolvedBinds();
+
+        private BindsSnapshot(Map<Class<?>, Bind<Annotation>> binds) {
+            this.binds = binds;
+        }
+
     }
 
-    private static final class HandlerRecord {
+    static final class HandlerRecord {
 
         private final Class<?> type;
         private Class<? extends Annotation> annotation;
 
-        private HandlerRecord(@Nullable Class<?> type, @Nullable Class<? extends Annotation> annotation) {
+        HandlerRecord(@Nullable Class<?> type, @Nullable Class<? extends Annotation> annotation) {
             if (type == null && annotation == null) {
                 throw new IllegalArgumentException("You have to provide at least type or annotation");
             }
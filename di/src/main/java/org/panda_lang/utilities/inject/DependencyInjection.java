@@ -30,6 +30,17 @@ public final class DependencyInjection {
         return INJECTOR_FACTORY.createInjector(controller);
     }
 
+    /**
+     * Create injector with resources frozen after the initialization
+     *
+     * @param controller the controller to use by the injector
+     * @return injector instance
+     * @see Resources#freeze()
+     */
+    public static Injector createFrozenInjector(InjectorController controller) {
+        return INJECTOR_FACTORY.createFrozenInjector(controller);
+    }
+
     /**
      * Create injector
      *
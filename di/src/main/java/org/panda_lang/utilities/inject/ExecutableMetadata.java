@@ -0,0 +1,111 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.panda_lang.utilities.inject.annotations.Injectable;
+import panda.utilities.ObjectUtils;
+
+/**
+ * Immutable metadata of executable parameters, resolved once per executable and shared by all injectors and resources.
+ * Returned arrays are shared and must not be modified.
+ */
+final class ExecutableMetadata {
+
+    private final Executable executable;
+    private final Parameter[] parameters;
+    private final Annotation[][] annotations;
+    private final Map<Class<? extends Annotation>, Annotation>[] annotationsMaps;
+    private final Annotation[] injectable;
+    private final Property[] properties;
+    private final Map<Parameter, Integer> indexes;
+
+    ExecutableMetadata(Executable executable) {
+        this.executable = executable;
+        this.parameters = executable.getParameters();
+        this.annotations = executable.getParameterAnnotations();
+        this.annotationsMaps = ObjectUtils.cast(new Map[annotations.length]);
+        this.injectable = new Annotation[parameters.length];
+        this.properties = new Property[parameters.length];
+        this.indexes = new HashMap<>(parameters.length * 2);
+
+        for (int index = 0; index < parameters.length; index++) {
+            Parameter parameter = parameters[index];
+            properties[index] = new PropertyParameter(parameter);
+            indexes.put(parameter, index);
+        }
+
+        for (int index = 0; index < annotations.length; index++) {
+            Map<Class<? extends Annotation>, Annotation> annotationsMap = new HashMap<>();
+
+            for (Annotation annotation : annotations[index]) {
+                annotationsMap.put(annotation.annotationType(), annotation);
+
+                if (annotation.annotationType().isAnnotationPresent(Injectable.class)) {
+                    injectable[index] = annotation;
+                }
+            }
+
+            annotationsMaps[index] = Collections.unmodifiableMap(annotationsMap);
+        }
+    }
+
+    /**
+     * Get index of the given parameter
+     *
+     * @param parameter the parameter declared by this executable
+     * @return index of parameter
+     * @throws IllegalArgumentException if the parameter is not declared by this executable
+     */
+    int indexOf(Parameter parameter) {
+        Integer index = indexes.get(parameter);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Parameter " + parameter + " is not declared by " + executable);
+        }
+
+        return index;
+    }
+
+    Annotation[] getAnnotations(Parameter parameter) {
+        return annotations[indexOf(parameter)];
+    }
+
+    /**
+     * Get the last annotation of each parameter that is marked with {@link Injectable}
+     *
+     * @return injectable annotations indexed by parameter, null for parameters without injectable annotation
+     */
+    Annotation[] getInjectable() {
+        return injectable;
+    }
+
+    Annotation[][] getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * Get annotations of each parameter mapped by their types
+     *
+     * @return unmodifiable maps of annotations indexed by parameter
+     */
+    Map<Class<? extends Annotation>, Annotation>[] getAnnotationsMaps() {
+        return annotationsMaps;
+    }
+
+    Property[] getProperties() {
+        return properties;
+    }
+
+    Parameter[] getParameters() {
+        return parameters;
+    }
+
+    static ExecutableMetadata of(Executable executable) {
+        return ClassCache.getExecutableMetadata(executable);
+    }
+
+}
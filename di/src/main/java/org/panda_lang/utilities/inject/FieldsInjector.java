@@ -1,23 +1,33 @@
 package org.panda_lang.utilities.inject;
 
-import java.lang.reflect.Field;
+public interface FieldsInjector<T> {
 
-public final class FieldsInjector<T> {
+    /**
+     * Create a new instance and inject its fields annotated with {@link org.panda_lang.utilities.inject.annotations.Inject}
+     * or {@link org.panda_lang.utilities.inject.annotations.AutoConstruct}
+     *
+     * @param injectorArgs arguments for injector
+     * @return a new instance
+     * @throws Exception if anything happens during the construction of instance
+     */
+    T newInstance(Object... injectorArgs) throws Exception;
 
-    private final InjectorProcessor processor;
-    private final ConstructorInjector<T> constructorInjector;
-
-    FieldsInjector(InjectorProcessor processor, ConstructorInjector<T> constructorInjector) {
-        this.processor = processor;
-        this.constructorInjector = constructorInjector;
+    /**
+     * Create a new instance without injector arguments.
+     * Unlike the varargs call, it does not allocate an empty array of arguments.
+     *
+     * @return a new instance
+     * @throws Exception if anything happens during the construction of instance
+     */
+    default T newInstance() throws Exception {
+        return newInstance(InjectorProcessor.EMPTY_ARGS);
     }
 
-    public T newInstance(Object... injectorArgs) throws Exception {
-        T instance = this.constructorInjector.newInstance(injectorArgs);
-        for (Field field : ClassCache.getInjectorFields(instance.getClass())) {
-            field.set(instance, this.processor.fetchValue(new PropertyField(field), injectorArgs));
-        }
-        return instance;
-    }
+    /**
+     * Get injector used to create instances
+     *
+     * @return the constructor injector
+     */
+    ConstructorInjector<T> getConstructorInjector();
 
 }
@@ -0,0 +1,7 @@
+package org.panda_lang.utilities.inject;
+
+public interface FieldsInjectorFactory {
+
+    FieldsInjector<?> createFieldsInjector(InjectorProcessor processor, ConstructorInjector<?> constructorInjector) throws Exception;
+
+}
@@ -0,0 +1,120 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+import panda.std.Option;
+import panda.std.function.ThrowingQuadFunction;
+import panda.std.function.ThrowingTriFunction;
+
+/**
+ * Immutable snapshot of resources created by {@link Resources#freeze()}.
+ * Binds and handlers cannot change, so memoized resolutions are never invalidated.
+ */
+final class FrozenResources implements Resources {
+
+    private final @Nullable Resources parent;
+    private final Map<Class<?>, Bind<Annotation>> binds;
+    private final ResolvedBinds resolvedBinds = new ResolvedBinds();
+    private final HandlerIndex handlers;
+    private final long version;
+
+    FrozenResources(
+        @Nullable Resources parent,
+        Map<Class<?>, Bind<Annotation>> binds,
+        HandlerIndex handlers,
+        long version
+    ) {
+        this.parent = parent;
+        this.binds = binds;
+        this.handlers = handlers;
+        this.version = version;
+    }
+
+    @Override
+    public Bind<?> on(Class<?> associatedType) {
+        throw new UnsupportedOperationException("Frozen resources cannot be modified");
+    }
+
+    @Override
+    public <A extends Annotation> Bind<A> annotatedWith(Class<A> annotation) {
+        throw new UnsupportedOperationException("Frozen resources cannot be modified");
+    }
+
+    @Override
+    public <V, R, E extends Exception> void processType(Class<V> associatedType, ThrowingTriFunction<Property, V, Object[], R, E> processor) {
+        throw new UnsupportedOperationException("Frozen resources cannot be modified");
+    }
+
+    @Override
+    public <A extends Annotation, V, R, E extends Exception> void processAnnotated(Class<A> annotationType, ThrowingQuadFunction<A, Property, V, Object[], R, E> processor) {
+        throw new UnsupportedOperationException("Frozen resources cannot be modified");
+    }
+
+    @Override
+    public <A extends Annotation, V, R, E extends Exception> void processAnnotatedType(Class<A> annotationType, Class<V> type, ThrowingQuadFunction<A, Property, V, Object[], R, E> processor) {
+        throw new UnsupportedOperationException("Frozen resources cannot be modified");
+    }
+
+    @Override
+    public Annotation[] fetchAnnotations(Parameter parameter) {
+        return ExecutableMetadata.of(parameter.getDeclaringExecutable()).getAnnotations(parameter);
+    }
+
+    @Override
+    public Annotation[][] fetchAnnotations(Executable executable) {
+        return ExecutableMetadata.of(executable).getAnnotations();
+    }
+
+    @Override
+    public Collection<BindHandler<Annotation, Object, ?>> getHandler(Parameter parameter) {
+        return handlers.getHandlers(parameter);
+    }
+
+    @Override
+    public Option<Bind<Annotation>> getBind(Class<?> requestedType) {
+        Bind<Annotation> exactBind = binds.get(requestedType);
+
+        if (exactBind != null) {
+            return Option.of(exactBind);
+        }
+
+        Option<Bind<Annotation>> resolvedBind = resolvedBinds.get(requestedType);
+
+        if (resolvedBind == null) {
+            resolvedBind = DefaultResources.resolveBind(binds, requestedType);
+
+            if (resolvedBind.isEmpty() && parent != null) {
+                resolvedBind = parent.getBind(requestedType);
+            }
+
+            resolvedBinds.put(requestedType, resolvedBind);
+        }
+
+        return resolvedBind;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Resources freeze() {
+        return this;
+    }
+
+    @Override
+    public Resources fork() {
+        return new DefaultResources(this);
+    }
+
+    @Override
+    public Resources duplicate() {
+        return new DefaultResources(binds, handlers);
+    }
+
+}
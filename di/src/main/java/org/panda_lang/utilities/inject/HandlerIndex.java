@@ -0,0 +1,74 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import org.panda_lang.utilities.inject.DefaultResources.HandlerRecord;
+
+/**
+ * Immutable collection of registered handlers with memoized matching of handlers for the given parameter.
+ * Matched handlers are ordered (type handler first, then handlers of subsequent annotations) and deduplicated.
+ */
+final class HandlerIndex {
+
+    private final Map<HandlerRecord, BindHandler<Annotation, Object, ?>> handlers;
+    // weak keys, parameters are strongly reachable only through metadata of their loaded classes and values never reference them
+    private final Map<Parameter, Collection<BindHandler<Annotation, Object, ?>>> matchedHandlers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private HandlerIndex(Map<HandlerRecord, BindHandler<Annotation, Object, ?>> handlers) {
+        this.handlers = handlers;
+    }
+
+    HandlerIndex() {
+        this(Collections.emptyMap());
+    }
+
+    HandlerIndex with(HandlerRecord record, BindHandler<Annotation, Object, ?> handler) {
+        Map<HandlerRecord, BindHandler<Annotation, Object, ?>> updatedHandlers = new HashMap<>(handlers);
+        updatedHandlers.put(record, handler);
+        return new HandlerIndex(updatedHandlers);
+    }
+
+    /**
+     * Get handlers matched for the given parameter.
+     * Lookups don't allocate, matched handlers are memoized per parameter as long as its declaring class is loaded.
+     *
+     * @param parameter the parameter to get handlers for
+     * @return ordered and deduplicated handlers
+     */
+    Collection<BindHandler<Annotation, Object, ?>> getHandlers(Parameter parameter) {
+        if (handlers.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return matchedHandlers.computeIfAbsent(parameter, this::matchHandlers);
+    }
+
+    private Collection<BindHandler<Annotation, Object, ?>> matchHandlers(Parameter parameter) {
+        Class<?> type = parameter.getType();
+        List<BindHandler<Annotation, Object, ?>> matched = new ArrayList<>();
+        add(matched, new HandlerRecord(type, null));
+
+        for (Annotation annotation : ExecutableMetadata.of(parameter.getDeclaringExecutable()).getAnnotations(parameter)) {
+            add(matched, new HandlerRecord(type, annotation.annotationType()));
+            add(matched, new HandlerRecord(null, annotation.annotationType()));
+        }
+
+        return matched.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matched);
+    }
+
+    private void add(List<BindHandler<Annotation, Object, ?>> matched, HandlerRecord record) {
+        BindHandler<Annotation, Object, ?> handler = handlers.get(record);
+
+        if (handler != null && !matched.contains(handler)) {
+            matched.add(handler);
+        }
+    }
+
+}
@@ -20,8 +20,15 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Creates and invokes injectors on top of the associated {@link Resources}.
+ * Default implementation is thread-safe, so the same injector may be shared between threads.
+ */
 public interface Injector {
 
     /**
@@ -42,6 +49,36 @@ public interface Injector {
      */
     <T> ConstructorInjector<T> forConstructor(Constructor<T> constructor);
 
+    /**
+     * Generate injector for the given type
+     * <p>
+     * This method should be used only with <strong>di-codegen</strong> module or other {@link ConstructorInjector} implementation
+     * Otherwise, it will fall back to {@link #forConstructor(Class)} and performance could be degraded
+     *
+     * @param type the type to process (works only for public classes with public constructor)
+     * @param <T>  type of class
+     * @return constructor injector
+     * @throws Exception if anything happens during the generation of constructor wrapper
+     */
+    default <T> ConstructorInjector<T> forGeneratedConstructor(Class<T> type) throws Exception {
+        return forConstructor(type);
+    }
+
+    /**
+     * Generate injector for the given constructor
+     * <p>
+     * This method should be used only with <strong>di-codegen</strong> module or other {@link ConstructorInjector} implementation
+     * Otherwise, it will fall back to {@link #forConstructor(Constructor)} and performance could be degraded
+     *
+     * @param constructor the constructor to process (works only for public constructors of public classes)
+     * @param <T>         type of class
+     * @return constructor injector
+     * @throws Exception if anything happens during the generation of constructor wrapper
+     */
+    default <T> ConstructorInjector<T> forGeneratedConstructor(Constructor<T> constructor) throws Exception {
+        return forConstructor(constructor);
+    }
+
     /**
      * Create injector for fields (and constructor)
      *
@@ -60,6 +97,36 @@ public interface Injector {
      */
     <T> FieldsInjector<T> forFields(Constructor<T> constructor);
 
+    /**
+     * Generate injector for fields (and constructor)
+     * <p>
+     * This method should be used only with <strong>di-codegen</strong> module or other {@link FieldsInjector} implementation
+     * Otherwise, it will fall back to {@link #forFields(Class)} and performance could be degraded
+     *
+     * @param type the type to process (public fields of public classes are assigned directly, other fields through reflection)
+     * @param <T>  type of class
+     * @return fields injector
+     * @throws Exception if anything happens during the generation of fields wrapper
+     */
+    default <T> FieldsInjector<T> forGeneratedFields(Class<T> type) throws Exception {
+        return forFields(type);
+    }
+
+    /**
+     * Generate injector for fields (and constructor)
+     * <p>
+     * This method should be used only with <strong>di-codegen</strong> module or other {@link FieldsInjector} implementation
+     * Otherwise, it will fall back to {@link #forFields(Constructor)} and performance could be degraded
+     *
+     * @param constructor the constructor to process (public fields of public classes are assigned directly, other fields through reflection)
+     * @param <T>         type of class
+     * @return fields injector
+     * @throws Exception if anything happens during the generation of fields wrapper
+     */
+    default <T> FieldsInjector<T> forGeneratedFields(Constructor<T> constructor) throws Exception {
+        return forFields(constructor);
+    }
+
     /**
      * Create a new instance of the specified type using Injector
      *
@@ -112,7 +179,9 @@ public interface Injector {
      * Generate injector for the given method
      * <p>
      * This method should be used only with <strong>di-codegen</strong> module or other {@link MethodInjector} implementation
-     * Otherwise, it will fall back to {@link #forMethod(Method)} and performance could be degraded
+     * Otherwise, it will fall back to {@link #forMethod(Method)} and performance could be degraded.
+     * Values of binds assigned to fixed instances may be folded into the generated code,
+     * reassignments of these binds are detected and the injector fetches their values on every call since then.
      *
      * @param method the method to process (works only for public properties)
      * @return injector for the given method
@@ -121,7 +190,35 @@ public interface Injector {
     MethodInjector forGeneratedMethod(Method method) throws Exception;
 
     /**
-     * Invoke the method using Injector
+     * Generate injectors for the given methods in parallel.
+     * The default implementation generates injectors sequentially in the calling thread.
+     *
+     * @param pool the pool used to generate injectors
+     * @param methods the methods to process
+     * @return injectors in the order of the given methods
+     * @throws DependencyInjectionException if generation of any injector failed, the failure of the first method in order is reported
+     * @see #forGeneratedMethod(Method)
+     */
+    default List<MethodInjector> forGeneratedMethods(ForkJoinPool pool, Method... methods) throws DependencyInjectionException {
+        List<MethodInjector> methodInjectors = new ArrayList<>(methods.length);
+
+        for (Method method : methods) {
+            try {
+                methodInjectors.add(forGeneratedMethod(method));
+            } catch (DependencyInjectionException exception) {
+                throw exception;
+            } catch (Exception exception) {
+                throw new DependencyInjectionException("Cannot generate method injectors", exception);
+            }
+        }
+
+        return methodInjectors;
+    }
+
+    /**
+     * Invoke the method using Injector.
+     * Injectors of invoked methods are cached and frequently invoked methods are switched to the generated injectors
+     * (if <strong>di-codegen</strong> module or other {@link MethodInjector} implementation is available).
      *
      * @param method   the method to invoke
      * @param instance the instance to use (nullable for static context)
@@ -150,6 +247,30 @@ public interface Injector {
      */
     @Nullable <T> T invokeParameter(Parameter parameter, Object... injectorArgs) throws Exception;
 
+    /**
+     * Prepare injectors of the given types ahead of time.
+     * It validates binds of constructors, injected fields and {@link org.panda_lang.utilities.inject.annotations.PostConstruct} methods,
+     * follows {@link org.panda_lang.utilities.inject.annotations.AutoConstruct} dependencies (and detects cycles between them),
+     * and caches created injectors, so the first injection does not pay for resolution of binds.
+     *
+     * @param types the types to prepare
+     * @throws DependencyInjectionException if any of the types cannot be injected
+     */
+    void prepare(Class<?>... types) throws DependencyInjectionException;
+
+    /**
+     * Prepare injectors of the given types in parallel.
+     * The default implementation prepares types sequentially in the calling thread.
+     *
+     * @param pool the pool used to prepare types
+     * @param types the types to prepare
+     * @throws DependencyInjectionException if any of the types cannot be injected, the failure of the first type in order is reported
+     * @see #prepare(Class[])
+     */
+    default void prepare(ForkJoinPool pool, Class<?>... types) throws DependencyInjectionException {
+        prepare(types);
+    }
+
     /**
      * Create a fork of resources. The current resources will be used as a parent of a new instance.
      *
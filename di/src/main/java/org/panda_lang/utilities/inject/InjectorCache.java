@@ -16,21 +16,25 @@
 
 package org.panda_lang.utilities.inject;
 
+import org.jetbrains.annotations.Nullable;
 import org.panda_lang.utilities.inject.annotations.Injectable;
 import panda.utilities.ArrayUtils;
+import panda.utilities.ObjectUtils;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
 final class InjectorCache {
 
+    private static final HandlerStep[] NO_HANDLERS = new HandlerStep[0];
+
     private final Property[] properties;
     private final Annotation[] injectable;
-    private final Map<Class<? extends Annotation>, Annotation>[] annotations;
     private final Bind<Annotation>[] binds;
-    private final Collection<BindHandler<Annotation, Object, ?>>[] handlers;
+    private final HandlerStep[][] handlers;
 
     private InjectorCache(
         Property[] properties,
@@ -41,24 +45,45 @@ final class InjectorCache {
     ) {
         this.properties = properties;
         this.injectable = injectable;
-        this.annotations = annotations;
         this.binds = binds;
-        this.handlers = handlers;
+        this.handlers = new HandlerStep[handlers.length][];
+
+        for (int index = 0; index < handlers.length; index++) {
+            this.handlers[index] = compileHandlers(annotations[index], handlers[index]);
+        }
     }
 
-    Annotation[] getInjectable() {
-        return injectable;
+    /**
+     * Resolve annotations used by handlers once, so the injection does not look them up on every call
+     */
+    private static HandlerStep[] compileHandlers(Map<Class<? extends Annotation>, Annotation> annotations, Collection<BindHandler<Annotation, Object, ?>> handlers) {
+        if (handlers.isEmpty()) {
+            return NO_HANDLERS;
+        }
+
+        HandlerStep[] steps = new HandlerStep[handlers.size()];
+        int index = 0;
+
+        for (BindHandler<Annotation, Object, ?> handler : handlers) {
+            Annotation annotation = handler.getAnnotation()
+                    .map(annotations::get)
+                    .orNull();
+
+            steps[index++] = new HandlerStep(handler, annotation);
+        }
+
+        return steps;
     }
 
-    Map<Class<? extends Annotation>, Annotation>[] getAnnotations() {
-        return annotations;
+    Annotation[] getInjectable() {
+        return injectable;
     }
 
     Bind<Annotation>[] getBinds() {
         return binds;
     }
 
-    Collection<BindHandler<Annotation, Object, ?>>[] getHandlers() {
+    HandlerStep[][] getHandlers() {
         return handlers;
     }
 
@@ -70,7 +95,7 @@ final class InjectorCache {
         Annotation[] injectable = processor.fetchAnnotations(executable);
 
         return new InjectorCache(
-                processor.fetchInjectorProperties(executable.getParameters()),
+                processor.fetchInjectorProperties(executable),
                 injectable,
                 processor.fetchAnnotationsMap(executable),
                 processor.fetchBinds(injectable, executable),
@@ -78,16 +103,47 @@ final class InjectorCache {
         );
     }
 
-    public static InjectorCache of(InjectorProcessor processor, Property property) {
-        Annotation annotation = ArrayUtils.findIn(property.getAnnotations(), a -> a.annotationType().isAnnotationPresent(Injectable.class)).orNull();
+    public static InjectorCache of(InjectorProcessor processor, Field[] fields) {
+        Property[] properties = new Property[fields.length];
+
+        for (int index = 0; index < fields.length; index++) {
+            properties[index] = new PropertyField(fields[index]);
+        }
+
+        return of(processor, properties);
+    }
+
+    public static InjectorCache of(InjectorProcessor processor, Property... properties) {
+        Annotation[] injectable = new Annotation[properties.length];
+        Map<Class<? extends Annotation>, Annotation>[] annotations = ObjectUtils.cast(new Map[properties.length]);
+        Bind<Annotation>[] binds = ObjectUtils.cast(new Bind[properties.length]);
+        Collection<BindHandler<Annotation, Object, ?>>[] handlers = ObjectUtils.cast(new Collection[properties.length]);
+
+        for (int index = 0; index < properties.length; index++) {
+            Property property = properties[index];
+            injectable[index] = ArrayUtils.findIn(property.getAnnotations(), a -> a.annotationType().isAnnotationPresent(Injectable.class)).orNull();
+            annotations[index] = Collections.emptyMap();
+            binds[index] = processor.fetchBind(injectable[index], property);
+            handlers[index] = Collections.emptyList();
+        }
+
+        return new InjectorCache(properties, injectable, annotations, binds, handlers);
+    }
+
+    static final class HandlerStep {
+
+        private final BindHandler<Annotation, Object, ?> handler;
+        private final @Nullable Annotation annotation;
+
+        private HandlerStep(BindHandler<Annotation, Object, ?> handler, @Nullable Annotation annotation) {
+            this.handler = handler;
+            this.annotation = annotation;
+        }
+
+        Object process(Property property, Object value, Object[] injectorArgs) throws Exception {
+            return handler.process(property, annotation, value, injectorArgs);
+        }
 
-        return new InjectorCache(
-                ArrayUtils.of(property),
-                ArrayUtils.of(annotation),
-                ArrayUtils.of(Collections.emptyMap()),
-                ArrayUtils.of(processor.fetchBind(annotation, property)),
-                ArrayUtils.of(Collections.emptyList())
-        );
     }
 
-}
\ No newline at end of file
+}
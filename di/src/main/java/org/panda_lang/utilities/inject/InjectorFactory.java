@@ -27,4 +27,10 @@ final class InjectorFactory {
         return new DefaultInjector(resources);
     }
 
+    protected Injector createFrozenInjector(InjectorController controller) {
+        Resources resources = new DefaultResources();
+        controller.initialize(resources);
+        return new DefaultInjector(resources.freeze());
+    }
+
 }
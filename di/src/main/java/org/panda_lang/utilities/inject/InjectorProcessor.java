@@ -17,8 +17,8 @@
 package org.panda_lang.utilities.inject;
 
 import org.jetbrains.annotations.Nullable;
+import org.panda_lang.utilities.inject.InjectorCache.HandlerStep;
 import org.panda_lang.utilities.inject.annotations.AutoConstruct;
-import org.panda_lang.utilities.inject.annotations.Injectable;
 import panda.utilities.ObjectUtils;
 import panda.utilities.text.Joiner;
 import java.lang.annotation.Annotation;
@@ -26,33 +26,100 @@ import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 final class InjectorProcessor {
 
+    static final Object[] EMPTY_ARGS = new Object[0];
+
     private final Injector injector;
-    private final Map<Executable, Annotation[]> injectableCache = new HashMap<>();
 
     private final Bind<Annotation> autoConstructBind;
+    private final Bind<Annotation> providerBind;
+
+    private final VersionedCache<Executable, InjectorCache> executableCaches;
+    private final VersionedCache<Class<?>, InjectorCache> fieldsCaches;
 
     InjectorProcessor(Injector injector) {
         this.injector = injector;
+        this.executableCaches = new VersionedCache<>(injector.getResources(), Executable::getDeclaringClass);
+        this.fieldsCaches = new VersionedCache<>(injector.getResources(), Function.identity());
 
         this.autoConstructBind = new DefaultBind<>(AutoConstruct.class);
         this.autoConstructBind.assignThrowingHandler((property, annotation, injectorArgs) -> injector.newInstanceWithFields(property.getType(), injectorArgs));
+
+        this.providerBind = new DefaultBind<>(Provider.class);
+        this.providerBind.assignHandler((property, annotation, injectorArgs) -> new LazyProvider<>(this, PropertyProvided.of(property), injectorArgs));
+    }
+
+    /**
+     * Get cache of the given executable.
+     * The cache is shared by all injectors of the executable created by the same injector until resources change.
+     *
+     * @param executable the executable to get cache of
+     * @return the cache of executable
+     * @throws MissingBindException if any of parameters cannot be injected
+     */
+    InjectorCache getInjectorCache(Executable executable) throws MissingBindException {
+        return executableCaches.get(executable, key -> InjectorCache.of(this, key));
+    }
+
+    /**
+     * Get cache of fields of the given type injected by fields injectors, in the order of {@link ClassCache#getInjectorFields(Class)}.
+     * The cache is shared by all fields injectors of the type created by the same injector until resources change.
+     *
+     * @param type the type to get cache of
+     * @return the cache of injected fields
+     * @throws MissingBindException if any of fields cannot be injected
+     */
+    InjectorCache getFieldsInjectorCache(Class<?> type) throws MissingBindException {
+        return fieldsCaches.get(type, key -> InjectorCache.of(this, ClassCache.getInjectorFields(key)));
     }
 
     protected Object[] fetchValues(InjectorCache cache, Object... injectorArgs) throws Exception {
         Property[] properties = cache.getProperties();
-        Object[] values = new Object[cache.getInjectable().length];
+
+        if (properties.length == 0) {
+            return EMPTY_ARGS;
+        }
+
+        Object[] values = new Object[properties.length];
         for (int index = 0; index < values.length; index++) {
             values[index] = fetchValue(cache, properties[index], index, injectorArgs);
         }
         return values;
     }
 
+    protected Object[] fetchValues(InjectorCache cache, int[] indexes, Object... injectorArgs) throws Exception {
+        if (indexes.length == 0) {
+            return EMPTY_ARGS;
+        }
+
+        Property[] properties = cache.getProperties();
+        Object[] values = new Object[indexes.length];
+        for (int index = 0; index < values.length; index++) {
+            values[index] = fetchValue(cache, properties[indexes[index]], indexes[index], injectorArgs);
+        }
+        return values;
+    }
+
+    /**
+     * Check if value of the property at the given index is constant,
+     * so it's bound to a fixed instance and not processed by any handler.
+     * Values of constant properties may be captured by generated injectors.
+     *
+     * @param cache the cache of properties
+     * @param index index of property
+     * @return true if value of the property is constant
+     */
+    protected boolean isConstant(InjectorCache cache, int index) {
+        Bind<Annotation> bind = cache.getBinds()[index];
+        return bind instanceof DefaultBind && ((DefaultBind<?>) bind).isConstant() && cache.getHandlers()[index].length == 0;
+    }
+
     protected @Nullable Object fetchValue(Property property, Object... injectorArgs) throws Exception {
         InjectorCache cache = InjectorCache.of(this, property);
         return fetchValue(cache, property, 0, injectorArgs);
@@ -60,65 +127,31 @@ final class InjectorProcessor {
 
     private @Nullable Object fetchValue(InjectorCache cache, Property property, int index, Object... injectorArgs) throws Exception {
         Object value = cache.getBinds()[index].getValue(property, cache.getInjectable()[index], injectorArgs);
+        HandlerStep[] handlers = cache.getHandlers()[index];
 
-        for (BindHandler<Annotation, Object, ?> handler : cache.getHandlers()[index]) {
-            Annotation annotation = null;
-            if (handler.getAnnotation().isPresent()) {
-                annotation = cache.getAnnotations()[index].get(handler.getAnnotation().get());
-            }
-            value = handler.process(property, annotation, ObjectUtils.cast(value), injectorArgs);
+        for (HandlerStep handler : handlers) {
+            value = handler.process(property, value, injectorArgs);
         }
 
         return value;
     }
 
-    protected Property[] fetchInjectorProperties(Parameter[] parameters) {
-        Property[] properties = new Property[parameters.length];
-        for (int index = 0; index < parameters.length; index++) {
-            properties[index] = new PropertyParameter(parameters[index]);
-        }
-        return properties;
+    protected Property[] fetchInjectorProperties(Executable executable) {
+        return ExecutableMetadata.of(executable).getProperties();
     }
 
     protected Annotation[] fetchAnnotations(Executable executable) {
-        Annotation[] injectorAnnotations = injectableCache.get(executable);
-        if (injectorAnnotations != null) {
-            return injectorAnnotations;
-        }
-
-        injectorAnnotations = new Annotation[executable.getParameterTypes().length];
-        Annotation[][] parameterAnnotations = injector.getResources().fetchAnnotations(executable);
-
-        for (int index = 0; index < parameterAnnotations.length; index++) {
-            for (Annotation annotation : parameterAnnotations[index]) {
-                if (annotation.annotationType().isAnnotationPresent(Injectable.class)) {
-                    injectorAnnotations[index] = annotation;
-                }
-            }
-        }
-
-        injectableCache.put(executable, injectorAnnotations);
-        return injectorAnnotations;
+        return ExecutableMetadata.of(executable).getInjectable();
     }
 
     protected Map<Class<? extends Annotation>, Annotation>[] fetchAnnotationsMap(Executable executable) {
-        Annotation[][] annotations = injector.getResources().fetchAnnotations(executable);
-        Map<Class<? extends Annotation>, Annotation>[] mappedAnnotations = ObjectUtils.cast(new HashMap[annotations.length]);
-
-        for (int index = 0; index < annotations.length; index++) {
-            Map<Class<? extends Annotation>, Annotation> annotationMap = new HashMap<>();
-            for (Annotation annotation : annotations[index]) {
-                annotationMap.put(annotation.annotationType(), annotation);
-            }
-            mappedAnnotations[index] = annotationMap;
-        }
-
-        return mappedAnnotations;
+        return ExecutableMetadata.of(executable).getAnnotationsMaps();
     }
 
     protected Bind<Annotation>[] fetchBinds(Annotation[] annotations, Executable executable) throws MissingBindException {
-        Resources resources = injector.getResources();
-        Parameter[] parameters = executable.getParameters();
+        ExecutableMetadata metadata = ExecutableMetadata.of(executable);
+        Parameter[] parameters = metadata.getParameters();
+        Property[] properties = metadata.getProperties();
         Bind<Annotation>[] binds = ObjectUtils.cast(new Bind[parameters.length]);
 
         for (int index = 0; index < annotations.length; index++) {
@@ -133,12 +166,16 @@ final class InjectorProcessor {
                 bind = this.injector.getResources().getBind(parameter.getType()).orNull();
             }
 
+            if (bind == null && isProvider(properties[index])) {
+                bind = this.providerBind;
+            }
+
             if (bind == null && parameter.getAnnotation(AutoConstruct.class) != null) {
                 bind = this.autoConstructBind;
             }
 
             if (bind == null) {
-                String simplifiedParameters = Joiner.on(", ").join(Arrays.stream(executable.getParameters())
+                String simplifiedParameters = Joiner.on(", ").join(Arrays.stream(properties)
                         .map(p -> p.getType().getSimpleName() + " " + p.getName())
                         .collect(Collectors.toList()))
                         .toString();
@@ -167,6 +204,10 @@ final class InjectorProcessor {
             bind = this.injector.getResources().getBind(property.getType()).orNull();
         }
 
+        if (bind == null && isProvider(property)) {
+            bind = this.providerBind;
+        }
+
         if (bind == null && property.getAnnotation(AutoConstruct.class) != null) {
             bind = this.autoConstructBind;
         }
@@ -177,9 +218,13 @@ final class InjectorProcessor {
         return bind;
     }
 
+    private boolean isProvider(Property property) {
+        return (property.getType() == Provider.class || property.getType() == Supplier.class) && PropertyProvided.of(property) != null;
+    }
+
     protected Collection<BindHandler<Annotation, Object, ?>>[] fetchHandlers(Executable executable) {
-        Collection<BindHandler<Annotation, Object, ?>>[] handlers = ObjectUtils.cast(new Collection[executable.getParameterCount()]);
-        Parameter[] parameters = executable.getParameters();
+        Parameter[] parameters = ExecutableMetadata.of(executable).getParameters();
+        Collection<BindHandler<Annotation, Object, ?>>[] handlers = ObjectUtils.cast(new Collection[parameters.length]);
 
         for (int index = 0; index < parameters.length; index++) {
             handlers[index] = injector.getResources().getHandler(parameters[index]);
@@ -188,7 +233,11 @@ final class InjectorProcessor {
         return handlers;
     }
 
-   Bind<Annotation> getAutoConstructBind() {
+    Bind<Annotation> getProviderBind() {
+        return this.providerBind;
+    }
+
+    Bind<Annotation> getAutoConstructBind() {
         return this.autoConstructBind;
     }
 
@@ -0,0 +1,43 @@
+package org.panda_lang.utilities.inject;
+
+import panda.utilities.ObjectUtils;
+
+final class LazyProvider<T> implements Provider<T> {
+
+    private final InjectorProcessor processor;
+    private final Property property;
+    private final Object[] injectorArgs;
+    private volatile boolean initialized;
+    private T value;
+
+    LazyProvider(InjectorProcessor processor, Property property, Object[] injectorArgs) {
+        this.processor = processor;
+        this.property = property;
+        this.injectorArgs = injectorArgs;
+    }
+
+    @Override
+    public T get() throws DependencyInjectionException {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    value = resolve();
+                    initialized = true;
+                }
+            }
+        }
+
+        return value;
+    }
+
+    private T resolve() {
+        try {
+            return ObjectUtils.cast(processor.fetchValue(property, injectorArgs));
+        } catch (DependencyInjectionException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new DependencyInjectionException("Failed to provide " + property.getType().getSimpleName() + " " + property.getName(), exception);
+        }
+    }
+
+}
@@ -6,6 +6,19 @@ public interface MethodInjector {
 
     <T> T invoke(Object instance, Object... injectorArgs) throws Exception;
 
+    /**
+     * Invoke injector without injector arguments.
+     * Unlike the varargs call, it does not allocate an empty array of arguments.
+     *
+     * @param instance the instance to use
+     * @param <T> type of return value
+     * @return returned value
+     * @throws Exception if anything happens in the evaluated method
+     */
+    default <T> T invoke(Object instance) throws Exception {
+        return invoke(instance, InjectorProcessor.EMPTY_ARGS);
+    }
+
     Method getMethod();
 
 }
@@ -6,4 +6,18 @@ public interface MethodInjectorFactory {
 
     MethodInjector createMethodInjector(InjectorProcessor processor, Method method) throws Exception;
 
+    /**
+     * Create injector that fetches values of all parameters on every invocation,
+     * so it never captures values of binds assigned to fixed instances.
+     * Used by cached injectors that outlive reassignments of binds.
+     *
+     * @param processor the processor used by injector
+     * @param method the method to process
+     * @return injector for the given method
+     * @throws Exception if anything happens during the generation of method wrapper
+     */
+    default MethodInjector createDynamicMethodInjector(InjectorProcessor processor, Method method) throws Exception {
+        return createMethodInjector(processor, method);
+    }
+
 }
@@ -0,0 +1,29 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Constructor;
+
+public final class PrecompiledConstructorInjector<T> implements ConstructorInjector<T> {
+
+    private final InjectorProcessor processor;
+    private final Constructor<T> constructor;
+    private final PrecompiledInjector<T> precompiledInjector;
+    private final InjectorCache cache;
+
+    PrecompiledConstructorInjector(InjectorProcessor processor, Constructor<T> constructor, PrecompiledInjector<T> precompiledInjector) {
+        this.processor = processor;
+        this.constructor = constructor;
+        this.precompiledInjector = precompiledInjector;
+        this.cache = processor.getInjectorCache(constructor);
+    }
+
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        return precompiledInjector.newInstance(processor.fetchValues(cache, injectorArgs));
+    }
+
+    @Override
+    public Constructor<T> getConstructor() {
+        return constructor;
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.reflect.Field;
+import org.jetbrains.annotations.Nullable;
+
+public final class PrecompiledFieldsInjector<T> implements FieldsInjector<T> {
+
+    private final InjectorProcessor processor;
+    private final ConstructorInjector<T> constructorInjector;
+    private final PrecompiledInjector<T> precompiledInjector;
+    private final InjectorCache cache;
+    private final int[] order;
+
+    PrecompiledFieldsInjector(InjectorProcessor processor, ConstructorInjector<T> constructorInjector, PrecompiledInjector<T> precompiledInjector, int[] order) {
+        this.processor = processor;
+        this.constructorInjector = constructorInjector;
+        this.precompiledInjector = precompiledInjector;
+        this.order = order;
+        this.cache = processor.getFieldsInjectorCache(constructorInjector.getConstructor().getDeclaringClass());
+    }
+
+    /**
+     * Match fields declared by the precompiled injector with injector fields of the given type.
+     * Precompiled injector may declare fields in a different order, so values are fetched in its order.
+     *
+     * @param type the type to inject
+     * @param precompiledInjector the injector precompiled for the type
+     * @return indexes of injector fields in the order of the precompiled injector,
+     * or null if fields are not supported or the precompiled injector is outdated (e.g. after a partial recompilation)
+     */
+    static @Nullable int[] matchFields(Class<?> type, PrecompiledInjector<?> precompiledInjector) {
+        Class<?>[] owners = precompiledInjector.getFieldOwners();
+        String[] names = precompiledInjector.getFieldNames();
+        Field[] injectorFields = ClassCache.getInjectorFields(type);
+
+        if (owners == null || names == null || owners.length != names.length || names.length != injectorFields.length) {
+            return null;
+        }
+
+        int[] order = new int[names.length];
+
+        for (int index = 0; index < names.length; index++) {
+            order[index] = -1;
+
+            for (int fieldIndex = 0; fieldIndex < injectorFields.length; fieldIndex++) {
+                Field field = injectorFields[fieldIndex];
+
+                if (field.getDeclaringClass() == owners[index] && field.getName().equals(names[index])) {
+                    order[index] = fieldIndex;
+                    break;
+                }
+            }
+
+            if (order[index] == -1) {
+                return null;
+            }
+        }
+
+        return order;
+    }
+
+    @Override
+    public T newInstance(Object... injectorArgs) throws Exception {
+        T instance = constructorInjector.newInstance(injectorArgs);
+        precompiledInjector.injectFields(instance, processor.fetchValues(cache, order, injectorArgs));
+        return instance;
+    }
+
+    @Override
+    public ConstructorInjector<T> getConstructorInjector() {
+        return constructorInjector;
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.panda_lang.utilities.inject;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Injector generated at compile time by the <strong>di-processor</strong> module.
+ * Precompiled injectors are discovered by the name of the associated type with the {@link #CLASS_SUFFIX} suffix
+ * and used by {@link Injector} before falling back to reflection.
+ * Annotations and generic signatures of members are still read once through reflection to resolve binds.
+ *
+ * @param <T> type of the associated class
+ */
+public interface PrecompiledInjector<T> {
+
+    /**
+     * Suffix appended to the binary name of the associated class to get the name of precompiled injector
+     */
+    String CLASS_SUFFIX = "$$PrecompiledInjector";
+
+    /**
+     * Get parameter types of the supported constructor
+     *
+     * @return parameter types or null if constructor is not supported
+     */
+    @Nullable Class<?>[] getParameterTypes();
+
+    /**
+     * Create a new instance using the supported constructor
+     *
+     * @param arguments values of constructor parameters
+     * @return a new instance
+     * @throws Exception if anything happens in the constructor
+     */
+    T newInstance(Object[] arguments) throws Exception;
+
+    /**
+     * Get classes that declare injected fields, in the order used by {@link #injectFields(Object, Object[])}
+     *
+     * @return declaring classes of fields or null if fields are not supported
+     */
+    @Nullable Class<?>[] getFieldOwners();
+
+    /**
+     * Get names of injected fields, in the order used by {@link #injectFields(Object, Object[])}
+     *
+     * @return names of fields or null if fields are not supported
+     */
+    @Nullable String[] getFieldNames();
+
+    /**
+     * Assign values to the injected fields
+     *
+     * @param instance the instance to inject
+     * @param values values of fields
+     * @throws Exception if anything happens during the assignment
+     */
+    void injectFields(T instance, Object[] values) throws Exception;
+
+    /**
+     * Get names of supported methods, in the order used by {@link #invokeMethod(int, Object, Object[])}
+     *
+     * @return names of methods
+     */
+    String[] getMethodNames();
+
+    /**
+     * Get parameter types of supported methods, in the order used by {@link #invokeMethod(int, Object, Object[])}
+     *
+     * @return parameter types of methods
+     */
+    Class<?>[][] getMethodParameterTypes();
+
+    /**
+     * Invoke the supported method
+     *
+     * @param index index of method
+     * @param instance the instance to use (ignored by static methods)
+     * @param arguments values of method parameters
+     * @return the returned value or null for void methods
+     * @throws Exception if anything happens in the method
+     */
+    @Nullable Object invokeMethod(int index, T instance, Object[] arguments) throws Exception;
+
+}
@@ -0,0 +1,32 @@
+package org.panda_lang.utilities.inject;
+
+import panda.utilities.ObjectUtils;
+import java.lang.reflect.Method;
+
+public final class PrecompiledMethodInjector implements MethodInjector {
+
+    private final InjectorProcessor processor;
+    private final Method method;
+    private final PrecompiledInjector<Object> precompiledInjector;
+    private final int index;
+    private final InjectorCache cache;
+
+    PrecompiledMethodInjector(InjectorProcessor processor, Method method, PrecompiledInjector<Object> precompiledInjector, int index) {
+        this.processor = processor;
+        this.method = method;
+        this.precompiledInjector = precompiledInjector;
+        this.index = index;
+        this.cache = processor.getInjectorCache(method);
+    }
+
+    @Override
+    public <T> T invoke(Object instance, Object... injectorArgs) throws Exception {
+        return ObjectUtils.cast(precompiledInjector.invokeMethod(index, instance, processor.fetchValues(cache, injectorArgs)));
+    }
+
+    @Override
+    public Method getMethod() {
+        return method;
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.panda_lang.utilities.inject;
+
+import panda.std.Option;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents value provided by {@link Provider} property, it shares annotations and name with the provider property
+ */
+final class PropertyProvided implements Property {
+
+    private final Property property;
+    private final Type providedType;
+    private final Class<?> providedClass;
+
+    private PropertyProvided(Property property, Type providedType, Class<?> providedClass) {
+        this.property = property;
+        this.providedType = providedType;
+        this.providedClass = providedClass;
+    }
+
+    @Override
+    public Option<Field> getField() {
+        return property.getField();
+    }
+
+    @Override
+    public Option<Parameter> getParameter() {
+        return property.getParameter();
+    }
+
+    @Override
+    public <A extends Annotation> A getAnnotation(Class<A> annotation) {
+        return property.getAnnotation(annotation);
+    }
+
+    @Override
+    public Annotation[] getAnnotations() {
+        return property.getAnnotations();
+    }
+
+    @Override
+    public Type getParametrizedType() {
+        return providedType;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return providedClass;
+    }
+
+    @Override
+    public String getName() {
+        return property.getName();
+    }
+
+    static @Nullable PropertyProvided of(Property property) {
+        if (!(property.getParametrizedType() instanceof ParameterizedType)) {
+            return null;
+        }
+
+        Type providedType = ((ParameterizedType) property.getParametrizedType()).getActualTypeArguments()[0];
+
+        if (providedType instanceof Class) {
+            return new PropertyProvided(property, providedType, (Class<?>) providedType);
+        }
+
+        if (providedType instanceof ParameterizedType && ((ParameterizedType) providedType).getRawType() instanceof Class) {
+            return new PropertyProvided(property, providedType, (Class<?>) ((ParameterizedType) providedType).getRawType());
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.function.Supplier;
+
+/**
+ * Deferred reference to the injected value.
+ * Properties of {@code Provider<T>} (or {@link Supplier}) type without an explicit bind
+ * receive a provider that resolves the value of {@code T} on the first call and then returns the same value.
+ *
+ * @param <T> type of provided value
+ */
+@FunctionalInterface
+public interface Provider<T> extends Supplier<T> {
+
+    /**
+     * Get the provided value, it's resolved on the first call
+     *
+     * @return the provided value
+     * @throws DependencyInjectionException if the value cannot be resolved
+     */
+    @Override
+    T get() throws DependencyInjectionException;
+
+}
@@ -0,0 +1,40 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.Nullable;
+import panda.std.Option;
+
+/**
+ * Memoized binds resolved for requested types.
+ * Binds resolved for classes of isolated class loaders (see {@link ClassCache#isIsolated(Class)}) are attached to these classes,
+ * so memoized resolutions do not prevent unloading of plugins.
+ */
+final class ResolvedBinds {
+
+    private final Map<Class<?>, Option<Bind<Annotation>>> sharedBinds = new ConcurrentHashMap<>();
+    private final ClassValue<AtomicReference<Option<Bind<Annotation>>>> isolatedBinds = new ClassValue<AtomicReference<Option<Bind<Annotation>>>>() {
+        @Override
+        protected AtomicReference<Option<Bind<Annotation>>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    @Nullable Option<Bind<Annotation>> get(Class<?> requestedType) {
+        return ClassCache.isIsolated(requestedType)
+                ? isolatedBinds.get(requestedType).get()
+                : sharedBinds.get(requestedType);
+    }
+
+    void put(Class<?> requestedType, Option<Bind<Annotation>> resolvedBind) {
+        if (ClassCache.isIsolated(requestedType)) {
+            isolatedBinds.get(requestedType).set(resolvedBind);
+        }
+        else {
+            sharedBinds.put(requestedType, resolvedBind);
+        }
+    }
+
+}
@@ -25,7 +25,12 @@ import java.lang.reflect.Parameter;
 import java.util.Collection;
 
 /**
- * Represents collection of registered binds
+ * Represents collection of registered binds.
+ * Default implementation is thread-safe, binds can be resolved concurrently without external synchronization
+ * and registrations are visible to lookups performed after them.
+ * A bind is registered by {@link #on(Class)} or {@link #annotatedWith(Class)} before a value is assigned to it,
+ * so concurrent lookups performed between the registration and the assignment fail with {@link MissingBindException}.
+ * Reassigned values are visible to lookups performed after the assignment.
  */
 public interface Resources {
 
@@ -126,6 +131,25 @@ public interface Resources {
      */
     Option<Bind<Annotation>> getBind(Class<?> requestedType);
 
+    /**
+     * Get the current version of resources.
+     * The version changes every time a new bind or handler is registered in these resources or in any of its parents,
+     * so it can be used to invalidate data computed on top of the current state of resources.
+     *
+     * @return the current version of resources
+     */
+    long getVersion();
+
+    /**
+     * Create an immutable snapshot of resources (and their parents).
+     * Frozen resources reject registration of new binds and handlers,
+     * so lookups do not have to validate memoized data and can be shared between threads without any contention.
+     * Binds should be fully configured before resources are frozen.
+     *
+     * @return a frozen instance of resources
+     */
+    Resources freeze();
+
     /**
      * Create a fork of resources. The current resources will be used as a parent of a new instance.
      *
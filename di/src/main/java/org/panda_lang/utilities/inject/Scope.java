@@ -0,0 +1,23 @@
+package org.panda_lang.utilities.inject;
+
+import panda.std.function.ThrowingFunction;
+import panda.std.function.ThrowingSupplier;
+
+/**
+ * Controls how often instances of scoped binds are created
+ *
+ * @see Scopes
+ * @see Bind#assignScopedInstance(Scope, ThrowingSupplier)
+ */
+@FunctionalInterface
+public interface Scope {
+
+    /**
+     * Wrap the given factory, so it's called at most once per scope
+     *
+     * @param factory the factory of new instances
+     * @return function that accepts injector arguments and returns an instance associated with the current scope
+     */
+    ThrowingFunction<Object[], ?, ? extends Exception> scope(ThrowingSupplier<?, ? extends Exception> factory);
+
+}
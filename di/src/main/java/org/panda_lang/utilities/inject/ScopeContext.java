@@ -0,0 +1,48 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import panda.std.function.ThrowingSupplier;
+
+/**
+ * Explicit carrier of instances created by {@link Scopes#request()}.
+ * Pass a new context as one of injector arguments for every request,
+ * instances are shared by all injections that receive the same context.
+ * Contexts may be shared between threads, but threads that request the same instance for the first time concurrently
+ * may call its factory more than once, only one of created instances is kept and returned to all of them.
+ */
+public final class ScopeContext {
+
+    private final Map<Object, Object> instances = new ConcurrentHashMap<>();
+
+    /**
+     * Get instance associated with the given key or create it using the factory.
+     * The factory is not called under lock, because it may request other instances of this context.
+     *
+     * @param key the key of instance
+     * @param factory the factory of a new instance
+     * @return the instance associated with this context
+     * @throws Exception if the factory failed to create a new instance
+     * @throws DependencyInjectionException if the factory returned null
+     */
+    Object getInstance(Object key, ThrowingSupplier<?, ? extends Exception> factory) throws Exception {
+        Object instance = instances.get(key);
+
+        if (instance == null) {
+            instance = factory.get();
+
+            if (instance == null) {
+                throw new DependencyInjectionException("Factory of request scoped instance returned null");
+            }
+
+            Object previous = instances.putIfAbsent(key, instance);
+
+            if (previous != null) {
+                instance = previous;
+            }
+        }
+
+        return instance;
+    }
+
+}
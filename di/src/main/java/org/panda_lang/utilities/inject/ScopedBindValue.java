@@ -0,0 +1,19 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.annotation.Annotation;
+import panda.std.function.ThrowingFunction;
+
+final class ScopedBindValue<A extends Annotation> implements BindValue<A> {
+
+    private final ThrowingFunction<Object[], ?, ? extends Exception> scopedSupplier;
+
+    ScopedBindValue(ThrowingFunction<Object[], ?, ? extends Exception> scopedSupplier) {
+        this.scopedSupplier = scopedSupplier;
+    }
+
+    @Override
+    public Object getValue(Property required, A annotation, Object... injectorArgs) throws Exception {
+        return scopedSupplier.apply(injectorArgs);
+    }
+
+}
@@ -0,0 +1,97 @@
+package org.panda_lang.utilities.inject;
+
+import panda.std.function.ThrowingFunction;
+import panda.std.function.ThrowingSupplier;
+
+/**
+ * Default implementations of {@link Scope}
+ */
+public final class Scopes {
+
+    private Scopes() { }
+
+    /**
+     * Create scope that creates a single instance on the first request and shares it between all threads.
+     * Once the instance is created, it is returned without any synchronization.
+     *
+     * @return the singleton scope
+     */
+    public static Scope singleton() {
+        return factory -> new SingletonInstance(factory);
+    }
+
+    /**
+     * Create scope that creates one instance per thread
+     *
+     * @return the thread scope
+     */
+    public static Scope thread() {
+        return factory -> {
+            ThreadLocal<Object> instances = new ThreadLocal<>();
+
+            return injectorArgs -> {
+                Object instance = instances.get();
+
+                if (instance == null) {
+                    instance = factory.get();
+                    instances.set(instance);
+                }
+
+                return instance;
+            };
+        };
+    }
+
+    /**
+     * Create scope that creates one instance per {@link ScopeContext} passed in injector arguments.
+     * It's a cheap alternative to forking resources for every request, as it does not allocate new resources.
+     * Factories have to return non-null instances and may be called more than once by threads sharing the same context
+     * (see {@link ScopeContext}).
+     *
+     * @return the request scope
+     */
+    public static Scope request() {
+        return factory -> new ThrowingFunction<Object[], Object, Exception>() {
+            @Override
+            public Object apply(Object[] injectorArgs) throws Exception {
+                for (Object injectorArg : injectorArgs) {
+                    if (injectorArg instanceof ScopeContext) {
+                        return ((ScopeContext) injectorArg).getInstance(this, factory);
+                    }
+                }
+
+                throw new DependencyInjectionException("Missing " + ScopeContext.class.getSimpleName() + " in injector arguments of request scope");
+            }
+        };
+    }
+
+    private static final class SingletonInstance implements ThrowingFunction<Object[], Object, Exception> {
+
+        private final ThrowingSupplier<?, ? extends Exception> factory;
+        private volatile Object instance;
+
+        private SingletonInstance(ThrowingSupplier<?, ? extends Exception> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public Object apply(Object[] injectorArgs) throws Exception {
+            Object current = instance;
+
+            if (current == null) {
+                synchronized (this) {
+                    current = instance;
+
+                    if (current == null) {
+                        current = factory.get();
+                        instance = current;
+                    }
+                }
+            }
+
+            return current;
+        }
+
+    }
+
+}
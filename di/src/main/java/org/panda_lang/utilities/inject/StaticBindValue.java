@@ -17,28 +17,47 @@
 package org.panda_lang.utilities.inject;
 
 import java.lang.annotation.Annotation;
+import org.jetbrains.annotations.Nullable;
 import java.util.function.Supplier;
 import panda.std.function.ThrowingSupplier;
 
 final class StaticBindValue<A extends Annotation> implements BindValue<A> {
 
-    private final ThrowingSupplier<?, ? extends Exception> valueSupplier;
+    private final @Nullable Object value;
+    private final @Nullable ThrowingSupplier<?, ? extends Exception> valueSupplier;
 
+    /**
+     * Bind the given fixed instance, it's returned directly without calling a supplier
+     *
+     * @param value the instance to return
+     */
     StaticBindValue(Object value) {
-        this((ThrowingSupplier<?, ? extends Exception>) () -> value);
+        this.value = value;
+        this.valueSupplier = null;
     }
 
     StaticBindValue(ThrowingSupplier<?, ? extends Exception> valueSupplier) {
+        this.value = null;
         this.valueSupplier = valueSupplier;
     }
 
     StaticBindValue(Supplier<?> valueSupplier) {
+        this.value = null;
         this.valueSupplier = valueSupplier::get;
     }
 
+    /**
+     * Check if the bind value is a fixed instance
+     *
+     * @return true if the value is always the same
+     */
+    boolean isConstant() {
+        return valueSupplier == null;
+    }
+
     @Override
     public Object getValue(Property required, A annotation, Object... injectorArgs) throws Exception {
-        return valueSupplier.get();
+        return valueSupplier == null ? value : valueSupplier.get();
     }
 
 }
@@ -0,0 +1,202 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import org.jetbrains.annotations.Nullable;
+import panda.std.function.ThrowingFunction;
+
+/**
+ * Thread-safe cache of values computed on top of the given resources.
+ * The cache is invalidated every time the version of resources changes.
+ * Bounded caches evict entries using the second chance (clock) policy,
+ * so recently used entries are kept, while reads only mark entries as referenced.
+ * <p>
+ * Entries of keys associated with classes of isolated class loaders (see {@link ClassCache#isIsolated(Class)})
+ * are attached to these classes through {@link ClassValue}, so the cache does not prevent unloading of plugins.
+ * Values attached to such classes keep the cache (and its injector) reachable until the class is unloaded,
+ * bounded caches apply the maximum size to every isolated class separately.
+ *
+ * @param <K> type of key
+ * @param <V> type of cached value
+ */
+final class VersionedCache<K, V> {
+
+    private final Resources resources;
+    private final int maximumSize;
+    private final @Nullable Function<? super K, ? extends Class<?>> scope;
+    private final AtomicReference<Generation<K, V>> generation;
+    private final ClassValue<AtomicReference<Generation<K, V>>> isolatedGenerations = new ClassValue<AtomicReference<Generation<K, V>>>() {
+        @Override
+        protected AtomicReference<Generation<K, V>> computeValue(Class<?> type) {
+            return new AtomicReference<>(new Generation<>(resources.getVersion(), maximumSize));
+        }
+    };
+
+    /**
+     * @param resources the resources used to compute values
+     * @param maximumSize the maximum number of entries
+     * @param scope the function that returns class associated with the given key, or null if all keys are shared
+     */
+    VersionedCache(Resources resources, int maximumSize, @Nullable Function<? super K, ? extends Class<?>> scope) {
+        this.resources = resources;
+        this.maximumSize = maximumSize;
+        this.scope = scope;
+        this.generation = new AtomicReference<>(new Generation<>(resources.getVersion(), maximumSize));
+    }
+
+    VersionedCache(Resources resources, Function<? super K, ? extends Class<?>> scope) {
+        this(resources, Integer.MAX_VALUE, scope);
+    }
+
+    VersionedCache(Resources resources, int maximumSize) {
+        this(resources, maximumSize, null);
+    }
+
+    VersionedCache(Resources resources) {
+        this(resources, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Get cached value or compute a new one using the given factory.
+     * Values are not computed under lock, so the factory may be called more than once for the same key,
+     * but only one of the results is stored in the cache.
+     * Computed values are stored only in the generation associated with the version of resources read before the computation,
+     * so values computed on top of outdated resources are never visible after the version changes.
+     *
+     * @param key the key of value
+     * @param factory the factory used to compute a missing value
+     * @param <E> type of exception thrown by the factory
+     * @return the cached value
+     * @throws E if the factory failed to compute a value
+     */
+    <E extends Exception> V get(K key, ThrowingFunction<? super K, ? extends V, E> factory) throws E {
+        Generation<K, V> current = currentGeneration(selectGeneration(key));
+        Entry<V> entry = current.values.get(key);
+
+        if (entry != null) {
+            entry.reference();
+            return entry.value;
+        }
+
+        return current.put(key, factory.apply(key));
+    }
+
+    private AtomicReference<Generation<K, V>> selectGeneration(K key) {
+        if (scope == null) {
+            return generation;
+        }
+
+        Class<?> type = scope.apply(key);
+        return ClassCache.isIsolated(type) ? isolatedGenerations.get(type) : generation;
+    }
+
+    private Generation<K, V> currentGeneration(AtomicReference<Generation<K, V>> generation) {
+        while (true) {
+            long version = resources.getVersion();
+            Generation<K, V> current = generation.get();
+
+            if (current.version == version) {
+                return current;
+            }
+
+            // versions only grow, a lower version read by this thread is already outdated
+            if (current.version < version) {
+                Generation<K, V> updated = new Generation<>(version, maximumSize);
+
+                if (generation.compareAndSet(current, updated)) {
+                    return updated;
+                }
+            }
+        }
+    }
+
+    /**
+     * Values computed on top of a single version of resources
+     */
+    private static final class Generation<K, V> {
+
+        private final long version;
+        private final int maximumSize;
+        private final Map<K, Entry<V>> values = new ConcurrentHashMap<>();
+        private final @Nullable Queue<K> clock;
+
+        private Generation(long version, int maximumSize) {
+            this.version = version;
+            this.maximumSize = maximumSize;
+            this.clock = maximumSize == Integer.MAX_VALUE ? null : new ConcurrentLinkedQueue<>();
+        }
+
+        private V put(K key, V value) {
+            Entry<V> entry = new Entry<>(value);
+            Entry<V> previous = values.putIfAbsent(key, entry);
+
+            if (previous != null) {
+                previous.reference();
+                return previous.value;
+            }
+
+            if (clock != null) {
+                clock.add(key);
+
+                if (values.size() > maximumSize) {
+                    evict();
+                }
+            }
+
+            return value;
+        }
+
+        /**
+         * Evict the first entry that was not referenced since the last pass of the clock hand
+         */
+        private void evict() {
+            // every referenced entry is given only one second chance, so two passes are always enough
+            for (int attempt = 0; attempt <= 2 * maximumSize; attempt++) {
+                K key = clock.poll();
+
+                if (key == null) {
+                    return;
+                }
+
+                Entry<V> entry = values.get(key);
+
+                if (entry == null) {
+                    continue;
+                }
+
+                if (entry.referenced && attempt < 2 * maximumSize) {
+                    entry.referenced = false;
+                    clock.add(key);
+                    continue;
+                }
+
+                values.remove(key, entry);
+                return;
+            }
+        }
+
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile boolean referenced;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+
+        private void reference() {
+            // avoid writes to the shared entry if it's already marked
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.ref.WeakReference;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.Inject;
+import org.panda_lang.utilities.inject.annotations.PostConstruct;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ClassCacheTest {
+
+    static class Entity {
+
+        @Inject
+        private String value;
+
+        Entity(String value) { }
+
+        @PostConstruct
+        void construct() { }
+
+    }
+
+    @Test
+    void shouldCacheClassMetadata() throws Exception {
+        assertSame(ClassCache.getConstructors(Entity.class), ClassCache.getConstructors(Entity.class));
+        assertSame(ClassCache.getInjectorFields(Entity.class), ClassCache.getInjectorFields(Entity.class));
+        assertEquals(1, ClassCache.getInjectorFields(Entity.class).length);
+        assertEquals(1, ClassCache.getAnnotatedMethods(Entity.class, PostConstruct.class).length);
+        assertFalse(ClassCache.isIsolated(Entity.class));
+        assertFalse(ClassCache.isIsolated(String.class));
+        assertTrue(ClassCache.isIsolated(new IsolatedClassLoader(Entity.class).loadClass(Entity.class.getName())));
+        assertSame(
+                ClassCache.getExecutableMetadata(Entity.class.getDeclaredConstructor(String.class)),
+                ClassCache.getExecutableMetadata(Entity.class.getDeclaredConstructor(String.class))
+        );
+    }
+
+    @Test
+    void shouldNotRetainUnloadedClasses() throws Exception {
+        WeakReference<ClassLoader> loaderReference = cacheIsolatedEntity();
+
+        for (int attempt = 0; attempt < 20 && loaderReference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertNull(loaderReference.get());
+    }
+
+    private static WeakReference<ClassLoader> cacheIsolatedEntity() throws Exception {
+        IsolatedClassLoader loader = new IsolatedClassLoader(Entity.class);
+        Class<?> type = loader.loadClass(Entity.class.getName());
+
+        ClassCache.getConstructors(type);
+        ClassCache.getInjectorFields(type);
+        ClassCache.getAnnotatedMethods(type, PostConstruct.class);
+        ClassCache.getExecutableMetadata(type.getDeclaredConstructor(String.class));
+        ClassCache.getPrecompiledInjector(type);
+
+        return new WeakReference<>(loader);
+    }
+
+}
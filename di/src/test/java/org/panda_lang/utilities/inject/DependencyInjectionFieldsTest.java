@@ -73,4 +73,66 @@ final class DependencyInjectionFieldsTest {
         assertEquals("1.2 254623242914889729", service.serveAbstract());
     }
 
+    static class StaleService {
+
+        @Inject
+        String value;
+
+    }
+
+    /**
+     * Injector precompiled for an older version of {@link StaleService}, discovered by its binary name
+     */
+    public static final class StaleService$$PrecompiledInjector implements PrecompiledInjector<StaleService> {
+
+        @Override
+        public Class<?>[] getParameterTypes() {
+            return null;
+        }
+
+        @Override
+        public StaleService newInstance(Object[] arguments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Class<?>[] getFieldOwners() {
+            return new Class<?>[] { StaleService.class };
+        }
+
+        @Override
+        public String[] getFieldNames() {
+            return new String[] { "removed" };
+        }
+
+        @Override
+        public void injectFields(StaleService instance, Object[] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String[] getMethodNames() {
+            return new String[0];
+        }
+
+        @Override
+        public Class<?>[][] getMethodParameterTypes() {
+            return new Class<?>[0][];
+        }
+
+        @Override
+        public Object invokeMethod(int index, StaleService instance, Object[] arguments) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    @Test
+    void shouldFallbackToReflectionForStalePrecompiledInjector() {
+        Injector injector = DependencyInjection.createInjector(resources -> resources.on(String.class).assignInstance("Value"));
+
+        assertTrue(injector.forFields(StaleService.class) instanceof DefaultFieldsInjector);
+        assertEquals("Value", injector.newInstanceWithFields(StaleService.class).value);
+    }
+
 }
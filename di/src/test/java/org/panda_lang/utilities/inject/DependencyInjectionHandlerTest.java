@@ -2,12 +2,15 @@ package org.panda_lang.utilities.inject;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.panda_lang.utilities.inject.annotations.Inject;
 import org.panda_lang.utilities.inject.annotations.Injectable;
 import org.panda_lang.utilities.inject.annotations.PostConstruct;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class DependencyInjectionHandlerTest {
@@ -59,6 +62,40 @@ public class DependencyInjectionHandlerTest {
         injector.newInstanceWithFields(Service1.class);
     }
 
+    private static class Service3 {
+
+        public String process(@Custom @TestAnnotation String value) {
+            return value;
+        }
+
+    }
+
+    @Test
+    void shouldProcessTypeOnce() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance("Hello");
+            resources.processType(String.class, (property, value, args) -> value + processed.incrementAndGet());
+        });
+
+        assertEquals("Hello1", injector.invokeMethod(Service3.class.getMethod("process", String.class), new Service3()));
+    }
+
+    @Test
+    void shouldMemoizeHandlersPerParameter() throws Exception {
+        Resources resources = DependencyInjection.createInjector(bindings -> {
+            bindings.processType(String.class, (property, value, args) -> value);
+            bindings.processAnnotated(Custom.class, (annotation, property, value, args) -> value);
+        }).getResources();
+
+        Parameter parameter = Service3.class.getMethod("process", String.class).getParameters()[0];
+        Parameter equalParameter = Service3.class.getMethod("process", String.class).getParameters()[0];
+
+        assertEquals(2, resources.getHandler(parameter).size());
+        assertSame(resources.getHandler(parameter), resources.getHandler(equalParameter));
+    }
+
     private static class Service2 {
 
         @Inject
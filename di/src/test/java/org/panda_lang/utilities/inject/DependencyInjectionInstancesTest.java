@@ -1,10 +1,18 @@
 package org.panda_lang.utilities.inject;
 
 import java.security.InvalidParameterException;
+import java.util.Objects;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 final class DependencyInjectionInstancesTest {
 
@@ -36,6 +44,141 @@ final class DependencyInjectionInstancesTest {
         assertThrows(DependencyInjectionException.class, () -> injector.newInstance(Service.class));
     }
 
+    @Test
+    void shouldRejectBindsWithoutAssignedValue() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Custom.class);
+            resources.on(Bean.class).assignInstance(Bean::new);
+        });
+
+        MissingBindException exception = assertThrows(MissingBindException.class, () -> injector.forConstructor(Service.class).newInstance());
+        assertEquals("Bind of Custom has no assigned value", exception.getMessage());
+    }
+
+    @Test
+    void shouldCacheInjectorsUntilResourcesChange() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Custom.class).assignInstance(new CustomImpl());
+            resources.on(Bean.class).assignInstance(Bean::new);
+        });
+
+        ConstructorInjector<Service> constructorInjector = injector.forConstructor(Service.class);
+        assertSame(constructorInjector, injector.forConstructor(Service.class));
+
+        FieldsInjector<Service> fieldsInjector = injector.forFields(Service.class);
+        assertSame(fieldsInjector, injector.forFields(Service.class));
+
+        injector.getResources().on(String.class).assignInstance("Changed");
+        assertNotSame(constructorInjector, injector.forConstructor(Service.class));
+        assertNotSame(fieldsInjector, injector.forFields(Service.class));
+    }
+
+    @Test
+    void shouldInvalidateResolvedBinds() {
+        Resources resources = DependencyInjection.createInjector().getResources();
+        resources.on(Object.class).assignInstance(new Object());
+
+        assertEquals(Object.class, resources.getBind(CustomImpl.class).get().getAssociatedType());
+        assertSame(resources.getBind(CustomImpl.class).get(), resources.getBind(CustomImpl.class).get());
+
+        resources.on(Custom.class).assignInstance(new CustomImpl());
+        assertEquals(Custom.class, resources.getBind(CustomImpl.class).get().getAssociatedType());
+    }
+
+    @Test
+    void shouldResolveBindsOfParentResources() {
+        Resources parent = DependencyInjection.createInjector().getResources();
+        parent.on(Custom.class).assignInstance(new CustomImpl());
+
+        Resources fork = parent.fork().fork().fork();
+        Bind<?> bind = fork.getBind(CustomImpl.class).get();
+        assertEquals(Custom.class, bind.getAssociatedType());
+        assertSame(bind, fork.getBind(CustomImpl.class).get());
+
+        parent.on(CustomImpl.class).assignInstance(new CustomImpl());
+        assertEquals(CustomImpl.class, fork.getBind(CustomImpl.class).get().getAssociatedType());
+    }
+
+    @Test
+    void shouldPushChangesToDeeplyForkedResources() {
+        Resources root = DependencyInjection.createInjector().getResources();
+        Resources middle = root.fork();
+        Resources fork = middle;
+
+        for (int depth = 0; depth < 64; depth++) {
+            fork = fork.fork();
+        }
+
+        assertFalse(fork.getBind(Custom.class).isPresent());
+        long version = fork.getVersion();
+        long middleVersion = middle.getVersion();
+
+        root.on(Custom.class).assignInstance(new CustomImpl());
+        assertNotEquals(version, fork.getVersion());
+        assertNotEquals(middleVersion, middle.getVersion());
+        assertTrue(fork.getBind(Custom.class).isPresent());
+
+        version = fork.getVersion();
+        long rootVersion = root.getVersion();
+        fork.on(Bean.class).assignInstance(Bean::new);
+        assertNotEquals(version, fork.getVersion());
+        assertEquals(rootVersion, root.getVersion());
+        assertFalse(root.getBind(Bean.class).isPresent());
+    }
+
+    @Test
+    void shouldModifyDuplicatedResourcesIndependently() {
+        Resources resources = DependencyInjection.createInjector().getResources();
+        resources.on(Custom.class).assignInstance(new CustomImpl());
+        resources.processType(String.class, (property, value, args) -> value);
+
+        Resources duplicate = resources.duplicate();
+        assertSame(resources.getBind(Custom.class).get(), duplicate.getBind(Custom.class).get());
+
+        duplicate.on(String.class).assignInstance("duplicate");
+        assertTrue(duplicate.getBind(String.class).isPresent());
+        assertFalse(resources.getBind(String.class).isPresent());
+
+        resources.on(Bean.class).assignInstance(Bean::new);
+        assertTrue(resources.getBind(Bean.class).isPresent());
+        assertFalse(duplicate.getBind(Bean.class).isPresent());
+
+        Resources forkDuplicate = resources.fork().duplicate();
+        assertFalse(forkDuplicate.getBind(Custom.class).isPresent());
+    }
+
+    @Test
+    void shouldInjectInstancesConcurrently() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Custom.class).assignInstance(new CustomImpl());
+            resources.on(Bean.class).assignInstance(Bean::new);
+        });
+
+        long created = IntStream.range(0, 1000).parallel()
+                .mapToObj(index -> index % 10 == 0
+                        ? injector.fork(resources -> resources.on(String.class).assignInstance("Fork " + index)).newInstance(Service.class)
+                        : injector.newInstance(Service.class))
+                .filter(Objects::nonNull)
+                .count();
+
+        assertEquals(1000, created);
+    }
+
+    @Test
+    void shouldInjectFrozenResources() {
+        Injector injector = DependencyInjection.createFrozenInjector(resources -> {
+            resources.on(Custom.class).assignInstance(new CustomImpl());
+            resources.on(Bean.class).assignInstance(Bean::new);
+        });
+
+        assertNotNull(injector.newInstance(Service.class));
+        assertSame(injector.getResources(), injector.getResources().freeze());
+        assertThrows(UnsupportedOperationException.class, () -> injector.getResources().on(String.class));
+
+        Injector fork = injector.fork(resources -> resources.on(String.class).assignInstance("Fork"));
+        assertEquals(Custom.class, fork.getResources().getBind(CustomImpl.class).get().getAssociatedType());
+    }
+
     private static class Bean {}
 
     private interface Custom {}
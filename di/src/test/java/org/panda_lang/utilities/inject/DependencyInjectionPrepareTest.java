@@ -0,0 +1,108 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.AutoConstruct;
+import org.panda_lang.utilities.inject.annotations.Inject;
+import org.panda_lang.utilities.inject.annotations.PostConstruct;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class DependencyInjectionPrepareTest {
+
+    private static class Service {
+
+        @AutoConstruct
+        private Repository repository;
+
+        @PostConstruct
+        private void construct(String value) { }
+
+    }
+
+    private static class Repository {
+
+        @Inject
+        private String value;
+
+    }
+
+    private static class Missing {
+
+        @Inject
+        private Integer value;
+
+    }
+
+    private static class First {
+
+        @AutoConstruct
+        private Second second;
+
+    }
+
+    private static class Second {
+
+        public Second(@AutoConstruct First first) { }
+
+    }
+
+    private static class MissingProvided {
+
+        @Inject
+        private Provider<Integer> value;
+
+    }
+
+    private static class LazyFirst {
+
+        @AutoConstruct
+        private Provider<LazySecond> second;
+
+    }
+
+    private static class LazySecond {
+
+        public LazySecond(@AutoConstruct LazyFirst first) { }
+
+    }
+
+    @Test
+    void shouldPrepareTypes() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance("Value");
+        });
+
+        assertDoesNotThrow(() -> injector.prepare(Service.class));
+        assertThrows(MissingBindException.class, () -> injector.prepare(Missing.class));
+    }
+
+    @Test
+    void shouldPrepareTypesInParallel() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance("Value");
+        });
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        assertDoesNotThrow(() -> injector.prepare(pool, Service.class, Repository.class));
+        assertThrows(MissingBindException.class, () -> injector.prepare(pool, Service.class, Missing.class, First.class));
+        pool.shutdown();
+    }
+
+    @Test
+    void shouldDetectCycles() {
+        Injector injector = DependencyInjection.createInjector();
+        DependencyInjectionException exception = assertThrows(DependencyInjectionException.class, () -> injector.prepare(First.class));
+        assertEquals("Circular @AutoConstruct dependency: First -> Second -> First", exception.getMessage());
+    }
+
+    @Test
+    void shouldFollowProvidedTypes() {
+        Injector injector = DependencyInjection.createInjector();
+        assertThrows(MissingBindException.class, () -> injector.prepare(MissingProvided.class));
+        assertDoesNotThrow(() -> injector.prepare(LazyFirst.class));
+    }
+
+}
@@ -0,0 +1,56 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.AutoConstruct;
+import org.panda_lang.utilities.inject.annotations.Inject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class DependencyInjectionProviderTest {
+
+    private static final AtomicInteger CREATED = new AtomicInteger();
+
+    private static class Repository {
+
+        public Repository() {
+            CREATED.incrementAndGet();
+        }
+
+    }
+
+    private static class Service {
+
+        @AutoConstruct
+        private Provider<Repository> repository;
+
+        @Inject
+        private Supplier<String> value;
+
+    }
+
+    @Test
+    void shouldProvideValuesLazily() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance("Value");
+        });
+
+        Service service = injector.newInstanceWithFields(Service.class);
+        assertEquals(0, CREATED.get());
+
+        Repository repository = service.repository.get();
+        assertSame(repository, service.repository.get());
+        assertEquals(1, CREATED.get());
+        assertEquals("Value", service.value.get());
+    }
+
+    @Test
+    void shouldFailOnFirstUseWithoutBind() {
+        Service service = DependencyInjection.createInjector().newInstanceWithFields(Service.class);
+        assertThrows(MissingBindException.class, () -> service.value.get());
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class DependencyInjectionScopesTest {
+
+    private static class Bean {}
+
+    private static class Service {
+
+        private final Bean bean;
+
+        public Service(Bean bean) {
+            this.bean = bean;
+        }
+
+    }
+
+    @Test
+    void shouldCreateSingletonOnce() {
+        AtomicInteger created = new AtomicInteger();
+
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Bean.class).assignScopedInstance(Scopes.singleton(), () -> {
+                created.incrementAndGet();
+                return new Bean();
+            });
+        });
+
+        Bean bean = injector.newInstance(Service.class).bean;
+        assertSame(bean, injector.newInstance(Service.class).bean);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    void shouldCreateInstancePerThread() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Bean.class).assignScopedInstance(Scopes.thread(), Bean::new);
+        });
+
+        Bean bean = injector.newInstance(Service.class).bean;
+        assertSame(bean, injector.newInstance(Service.class).bean);
+
+        AtomicReference<Bean> otherBean = new AtomicReference<>();
+        Thread thread = new Thread(() -> otherBean.set(injector.newInstance(Service.class).bean));
+        thread.start();
+        thread.join();
+
+        assertNotSame(bean, otherBean.get());
+    }
+
+    @Test
+    void shouldCreateInstancePerContext() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Bean.class).assignScopedInstance(Scopes.request(), Bean::new);
+        });
+
+        ScopeContext context = new ScopeContext();
+        Bean bean = injector.newInstance(Service.class, context).bean;
+        assertSame(bean, injector.newInstance(Service.class, context).bean);
+        assertNotSame(bean, injector.newInstance(Service.class, new ScopeContext()).bean);
+        assertThrows(DependencyInjectionException.class, () -> injector.newInstance(Service.class));
+    }
+
+    @Test
+    void shouldRejectNullRequestScopedInstances() {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(Bean.class).assignScopedInstance(Scopes.request(), () -> null);
+        });
+
+        DependencyInjectionException exception = assertThrows(DependencyInjectionException.class, () -> {
+            injector.forConstructor(Service.class).newInstance(new ScopeContext());
+        });
+        assertEquals("Factory of request scoped instance returned null", exception.getMessage());
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.panda_lang.utilities.inject;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.Test;
+import org.panda_lang.utilities.inject.annotations.AutoConstruct;
+import org.panda_lang.utilities.inject.annotations.Inject;
+import org.panda_lang.utilities.inject.annotations.PostConstruct;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class DependencyInjectionUnloadingTest {
+
+    static class Plugin {
+
+        @Inject
+        private String value;
+
+        @AutoConstruct
+        private PluginService service;
+
+        Plugin(String value) { }
+
+        @PostConstruct
+        void construct() { }
+
+        String process(String value) {
+            return value;
+        }
+
+    }
+
+    static class PluginService { }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface PluginLifecycle { }
+
+    static class Host {
+
+        int invocations;
+
+        @PostConstruct
+        void construct() {
+            invocations++;
+        }
+
+    }
+
+    @Test
+    void shouldNotRetainUnloadedPlugins() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(String.class).assignInstance("Value");
+        });
+
+        WeakReference<ClassLoader> loaderReference = usePlugin(injector);
+
+        for (int attempt = 0; attempt < 20 && loaderReference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertNull(loaderReference.get());
+        assertEquals("Value", injector.newInstanceWithFields(Plugin.class).value);
+    }
+
+    @Test
+    void shouldNotRetainAnnotationsOfUnloadedPlugins() throws Exception {
+        Injector injector = DependencyInjection.createInjector();
+        WeakReference<ClassLoader> loaderReference = usePluginAnnotation(injector);
+
+        for (int attempt = 0; attempt < 20 && loaderReference.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+
+        assertNull(loaderReference.get());
+    }
+
+    private static WeakReference<ClassLoader> usePluginAnnotation(Injector injector) throws Exception {
+        IsolatedClassLoader loader = new IsolatedClassLoader(PluginLifecycle.class);
+        Class<? extends Annotation> annotationType = loader.loadClass(PluginLifecycle.class.getName()).asSubclass(Annotation.class);
+
+        Host host = new Host();
+        injector.invokeAnnotatedMethods(annotationType, host);
+        injector.invokeAnnotatedMethods(PostConstruct.class, host);
+        assertEquals(1, host.invocations);
+
+        return new WeakReference<>(loader);
+    }
+
+    private static WeakReference<ClassLoader> usePlugin(Injector injector) throws Exception {
+        IsolatedClassLoader loader = new IsolatedClassLoader(Plugin.class, PluginService.class);
+        Class<?> pluginType = loader.loadClass(Plugin.class.getName());
+
+        Object plugin = injector.newInstanceWithFields(pluginType);
+        Method process = pluginType.getDeclaredMethod("process", String.class);
+        assertEquals("Value", injector.invokeMethod(process, plugin));
+        assertTrue(injector.getResources().getBind(pluginType).isEmpty());
+
+        return new WeakReference<>(loader);
+    }
+
+}
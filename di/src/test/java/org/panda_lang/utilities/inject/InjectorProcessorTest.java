@@ -5,6 +5,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.panda_lang.utilities.inject.annotations.AutoConstruct;
 import org.panda_lang.utilities.inject.annotations.Injectable;
@@ -13,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -58,6 +60,27 @@ final class InjectorProcessorTest {
         assertTrue(annotations[1] instanceof TestAnnotation);
     }
 
+    @Test
+    void shouldShareExecutableMetadata() throws Exception {
+        Constructor<?> constructor = TestClass.class.getConstructor(int.class, String.class);
+        Constructor<?> sameConstructor = TestClass.class.getConstructor(int.class, String.class);
+
+        Property[] properties = this.processor.fetchInjectorProperties(constructor);
+        assertSame(properties, this.processor.fetchInjectorProperties(sameConstructor));
+        assertEquals(2, properties.length);
+        assertEquals(String.class, properties[1].getType());
+
+        Injector anotherInjector = DependencyInjection.createInjector();
+        assertSame(this.injector.getResources().fetchAnnotations(constructor), anotherInjector.getResources().fetchAnnotations(sameConstructor));
+
+        Annotation[] annotations = anotherInjector.getResources().fetchAnnotations(sameConstructor.getParameters()[1]);
+        assertTrue(annotations[0] instanceof TestAnnotation);
+
+        Map<Class<? extends Annotation>, Annotation>[] annotationsMaps = this.processor.fetchAnnotationsMap(constructor);
+        assertSame(annotationsMaps, new InjectorProcessor(anotherInjector).fetchAnnotationsMap(sameConstructor));
+        assertSame(annotations[0], annotationsMaps[1].get(TestAnnotation.class));
+    }
+
     @Test
     void shouldFetchBinds() throws Exception {
         // Fetch single
@@ -0,0 +1,51 @@
+package org.panda_lang.utilities.inject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Class loader that defines its own copies of the given classes, like class loaders of plugins
+ */
+final class IsolatedClassLoader extends ClassLoader {
+
+    private final Set<String> isolatedNames;
+
+    IsolatedClassLoader(Class<?>... isolatedTypes) {
+        super(IsolatedClassLoader.class.getClassLoader());
+        this.isolatedNames = new HashSet<>();
+        Arrays.stream(isolatedTypes).forEach(type -> isolatedNames.add(type.getName()));
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!isolatedNames.contains(name)) {
+            return super.loadClass(name, resolve);
+        }
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> type = findLoadedClass(name);
+            return type != null ? type : define(name);
+        }
+    }
+
+    private Class<?> define(String name) throws ClassNotFoundException {
+        try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+
+            while ((read = input.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+
+            byte[] bytecode = output.toByteArray();
+            return defineClass(name, bytecode, 0, bytecode.length);
+        } catch (Exception exception) {
+            throw new ClassNotFoundException(name, exception);
+        }
+    }
+
+}
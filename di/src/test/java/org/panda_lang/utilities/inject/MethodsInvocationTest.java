@@ -2,11 +2,13 @@ package org.panda_lang.utilities.inject;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MethodsInvocationTest {
 
@@ -60,6 +62,22 @@ public class MethodsInvocationTest {
         assertEquals(5, testClass.testInt);
     }
 
+    @Test
+    void shouldInvokeHotMethods() throws Exception {
+        Injector injector = DependencyInjection.createInjector(resources -> {
+            resources.on(int.class).assignInstance(1);
+        });
+
+        TestClass testClass = new TestClass();
+        Method method = TestClass.class.getMethod("annotatedMethod", int.class);
+
+        for (int index = 0; index < 20_000; index++) {
+            injector.invokeMethod(method, testClass);
+        }
+
+        assertEquals(20_000, testClass.testInt);
+    }
+
     @Test
     void shouldNotInvokeMethods() {
         Injector injector = DependencyInjection.createInjector(resources -> {
@@ -70,4 +88,15 @@ public class MethodsInvocationTest {
         assertThrows(DependencyInjectionException.class, () -> injector.invokeMethod(TestClass.class.getMethod("failMethod"), testClass));
     }
 
+    @Test
+    void shouldReportMethodsWithMissingBinds() {
+        Injector injector = DependencyInjection.createInjector();
+
+        DependencyInjectionException exception = assertThrows(DependencyInjectionException.class, () -> {
+            injector.invokeAnnotatedMethods(TestAnnotation.class, new TestClass());
+        });
+        assertEquals("Cannot invoke method annotatedMethod of TestClass", exception.getMessage());
+        assertTrue(exception.getCause() instanceof MissingBindException);
+    }
+
 }
@@ -0,0 +1,43 @@
+package org.panda_lang.utilities.inject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+final class VersionedCacheTest {
+
+    private final Resources resources = DependencyInjection.createInjector().getResources();
+
+    @Test
+    void shouldNotStoreValuesComputedForOutdatedVersion() {
+        VersionedCache<String, String> cache = new VersionedCache<>(resources);
+
+        String stale = cache.get("key", key -> {
+            // resources change while the value is computed and another lookup already observed the new version
+            resources.on(String.class).assignInstance("value");
+            cache.get("other", other -> other);
+            return "stale";
+        });
+
+        assertEquals("stale", stale);
+        assertEquals("fresh", cache.get("key", key -> "fresh"));
+    }
+
+    @Test
+    void shouldEvictEntriesNotUsedRecently() {
+        VersionedCache<String, String> cache = new VersionedCache<>(resources, 2);
+        AtomicInteger computed = new AtomicInteger();
+
+        cache.get("a", key -> key + computed.incrementAndGet());
+        cache.get("b", key -> key + computed.incrementAndGet());
+        cache.get("a", key -> key + computed.incrementAndGet());
+        cache.get("c", key -> key + computed.incrementAndGet());
+        assertEquals(3, computed.get());
+
+        assertEquals("a1", cache.get("a", key -> key + computed.incrementAndGet()));
+        assertEquals("c3", cache.get("c", key -> key + computed.incrementAndGet()));
+        assertEquals("b4", cache.get("b", key -> key + computed.incrementAndGet()));
+    }
+
+}
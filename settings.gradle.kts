@@ -3,5 +3,7 @@ rootProject.name = "di-parent"
 include(
     "di",
     "di-codegen",
+    "di-handles",
+    "di-processor",
     "di-benchmarks"
 )
\ No newline at end of file